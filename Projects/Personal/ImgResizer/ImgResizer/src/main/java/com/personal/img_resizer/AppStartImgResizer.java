@@ -1,26 +1,35 @@
 package com.personal.img_resizer;
 
-import java.io.File;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
-import org.apache.commons.lang3.StringUtils;
 import org.im4java.core.ConvertCmd;
 import org.im4java.core.IMOperation;
 import org.im4java.process.ProcessStarter;
 
+import com.utils.concurrency.no_progress.ConcurrencyUtilsSimpleRegular;
+import com.utils.io.FileSizeUtils;
 import com.utils.io.IoUtils;
-import com.utils.io.ListFileUtils;
 import com.utils.io.PathUtils;
-import com.utils.io.file_copiers.FactoryFileCopier;
 import com.utils.io.file_deleters.FactoryFileDeleter;
 import com.utils.io.folder_creators.FactoryFolderCreator;
 import com.utils.log.Logger;
+import com.utils.log.MessageConsumer;
+import com.utils.log.progress.ProgressIndicator;
+import com.utils.log.progress.ProgressIndicatorConsole;
+import com.utils.log.progress.ProgressIndicators;
 import com.utils.string.StrUtils;
 
 final class AppStartImgResizer {
 
+	private static final int SHOW_PROGRESS_INTERVAL = 10;
+
 	private AppStartImgResizer() {
 	}
 
@@ -54,8 +63,71 @@ final class AppStartImgResizer {
 					} else {
 						final String inputPathString = PathUtils.computeNormalizedPath("input path", args[1]);
 						final String outputPathString = PathUtils.computeNormalizedPath("output path", args[2]);
-						final boolean verbose = args.length >= 4 && "-verbose".equals(args[3]);
-						success = work(length, inputPathString, outputPathString, verbose);
+
+						boolean verbose = false;
+						int threadCount = 1;
+						ImageResizerType imageResizerType = ImageResizerType.FFMPEG;
+						boolean incremental = false;
+						OutputLinkType outputLinkType = OutputLinkType.COPY;
+						String statisticsCsvPathString = null;
+						for (int i = 3; i < args.length; i++) {
+
+							final String arg = args[i];
+							if ("-verbose".equals(arg)) {
+								verbose = true;
+
+							} else if (arg.startsWith("-threads=")) {
+								final String threadCountString = arg.substring("-threads=".length());
+								threadCount = StrUtils.tryParsePositiveInt(threadCountString);
+
+							} else if (arg.startsWith("-engine=")) {
+								final String imageResizerTypeString = arg.substring("-engine=".length());
+								imageResizerType = FactoryImageResizer.computeImageResizerType(imageResizerTypeString);
+
+							} else if ("-incremental".equals(arg)) {
+								incremental = true;
+
+							} else if (arg.startsWith("-link=")) {
+								final String outputLinkTypeString = arg.substring("-link=".length());
+								outputLinkType = OutputFileLinker.computeOutputLinkType(outputLinkTypeString);
+
+							} else if (arg.startsWith("-stats=")) {
+								final String statisticsCsvPathStringParam = arg.substring("-stats=".length());
+								statisticsCsvPathString = PathUtils.computeNormalizedPath(
+										"statistics CSV path", statisticsCsvPathStringParam);
+
+							} else {
+								Logger.printWarning("unknown argument \"" + arg + "\"");
+							}
+						}
+
+						if (threadCount <= 0) {
+							Logger.printError("invalid thread count");
+							success = false;
+
+						} else if (imageResizerType == null) {
+							Logger.printError("invalid resize engine");
+							success = false;
+
+						} else if (outputLinkType == null) {
+							Logger.printError("invalid output link type");
+							success = false;
+
+						} else {
+							final ImgResizerSettings imgResizerSettings = new ImgResizerSettings(
+									length, verbose, threadCount, imageResizerType, incremental, outputLinkType);
+							try {
+								success = work(inputPathString, outputPathString, imgResizerSettings);
+							} finally {
+								ExifToolSession.closeAll();
+								ScratchFolder.delete(verbose);
+							}
+
+							ImgResizerStatistics.printSummary();
+							if (statisticsCsvPathString != null) {
+								new ImgResizerStatisticsCsvWriter(statisticsCsvPathString).writeCsv();
+							}
+						}
 					}
 				}
 			}
@@ -73,66 +145,100 @@ final class AppStartImgResizer {
 
 	private static String createHelpMessage() {
 
-		return "usage: img_resizer <length> <input_path> <output_path> (-verbose)";
+		return "usage: img_resizer <length> <input_path> <output_path> (-verbose) (-threads=<thread_count>)" +
+				" (-engine=ffmpeg|java) (-incremental) (-link=copy|hardlink|reflink) (-stats=<statistics_csv_path>)";
 	}
 
 	private static boolean work(
-			final int length,
 			final String inputPathString,
 			final String outputPathString,
-			final boolean verbose) {
+			final ImgResizerSettings imgResizerSettings) {
 
 		boolean success = true;
 
 		Logger.printLine("input path: " + inputPathString);
 		Logger.printLine("output path: " + outputPathString);
-		Logger.printLine("length: " + length);
+		Logger.printLine("length: " + imgResizerSettings.length());
+		Logger.printLine("thread count: " + imgResizerSettings.threadCount());
+		Logger.printLine("resize engine: " + imgResizerSettings.imageResizerType());
+		Logger.printLine("incremental: " + imgResizerSettings.incremental());
+		Logger.printLine("output link type: " + imgResizerSettings.outputLinkType());
 
 		if (IoUtils.directoryExists(inputPathString)) {
 
-			boolean foundImages = false;
-			final List<String> filePathStringList = new ArrayList<>();
-			ListFileUtils.visitFilesRecursively(inputPathString,
-					dirPath -> {
-					},
-					filePath -> {
-						final String filePathString = filePath.toString();
-						filePathStringList.add(filePathString);
-					});
-			for (final String filePathString : filePathStringList) {
+			final ImgResizerManifest imgResizerManifest;
+			if (imgResizerSettings.incremental()) {
+				imgResizerManifest = ImgResizerManifest.load(outputPathString, imgResizerSettings);
+			} else {
+				imgResizerManifest = null;
+			}
+
+			final AtomicBoolean foundImages = new AtomicBoolean(false);
+			final Queue<String> failedFilePathStringQueue = new ConcurrentLinkedQueue<>();
+			final Consumer<DiscoveredFile> fileConsumer = discoveredFile -> {
 
+				final String filePathString = discoveredFile.filePathString();
 				final String relativePath = PathUtils.computeRelativePath(inputPathString, filePathString);
-				String outputFilePathString = PathUtils.computePath(outputPathString, relativePath);
+				final String outputFilePathString = PathUtils.computePath(outputPathString, relativePath);
 
 				final ImageType imageType = FactoryImageType.computeImageType(filePathString);
 				if (imageType != null) {
+					foundImages.set(true);
+				}
 
-					foundImages = true;
-					outputFilePathString = PathUtils.computePathWoExt(outputFilePathString) + ".jpg";
+				final boolean processFileSuccess = processFile(discoveredFile, relativePath,
+						outputFilePathString, imageType, imgResizerSettings, imgResizerManifest);
+				if (!processFileSuccess) {
+					failedFilePathStringQueue.add(filePathString);
+				}
+			};
 
-					final boolean resizedImageSuccess =
-							resizeImage(filePathString, outputFilePathString, verbose, imageType, length);
-					if (!resizedImageSuccess) {
-						success = false;
-					}
+			final int threadCount = imgResizerSettings.threadCount();
+			final FileDiscoveryQueue fileDiscoveryQueue = new FileDiscoveryQueue(inputPathString, threadCount);
+			if (threadCount > 1) {
+				executeParallel(fileDiscoveryQueue, fileConsumer, threadCount);
+			} else {
+				fileDiscoveryQueue.start();
+				consumeFiles(fileDiscoveryQueue, fileConsumer);
+			}
+			final int fileCount = fileDiscoveryQueue.getDiscoveredFileCount();
 
-				} else {
-					success = FactoryFileCopier.getInstance()
-							.copyFile(filePathString, outputFilePathString, true, true, true);
-				}
+			if (imgResizerManifest != null) {
+
+				Logger.printNewLine();
+				Logger.printLine("skipped " + imgResizerManifest.getSkippedFileCount() + " out of " +
+						fileCount + " files, which did not change since the previous run");
+				imgResizerManifest.save();
 			}
-			if (!foundImages) {
+
+			if (!foundImages.get()) {
 				Logger.printWarning("found no image files in the input folder");
 			}
 
+			if (!failedFilePathStringQueue.isEmpty()) {
+
+				success = false;
+				Logger.printNewLine();
+				Logger.printError("failed to process " + failedFilePathStringQueue.size() + " out of " +
+						fileCount + " files:");
+				for (final String failedFilePathString : failedFilePathStringQueue) {
+					Logger.printLine(failedFilePathString);
+				}
+			}
+
 		} else if (IoUtils.fileExists(inputPathString)) {
 
+			if (imgResizerSettings.incremental()) {
+				Logger.printWarning("the incremental mode is supported only for input folders");
+			}
+
 			final ImageType imageType = FactoryImageType.computeImageType(inputPathString);
 			if (imageType != null) {
 
-				final boolean resizedImageSuccess =
-						resizeImage(inputPathString, outputPathString, verbose, imageType, length);
-				if (!resizedImageSuccess) {
+				final FileOutcome fileOutcome =
+						resizeImage(inputPathString, outputPathString, imageType, imgResizerSettings);
+				recordFileStatistics(FileSizeUtils.fileSize(inputPathString), outputPathString, fileOutcome);
+				if (fileOutcome == FileOutcome.FAILED) {
 					success = false;
 				}
 
@@ -146,15 +252,153 @@ final class AppStartImgResizer {
 		return success;
 	}
 
-	private static boolean resizeImage(
+	private static boolean processFile(
+			final DiscoveredFile discoveredFile,
+			final String relativePath,
+			final String outputFilePathStringParam,
+			final ImageType imageType,
+			final ImgResizerSettings imgResizerSettings,
+			final ImgResizerManifest imgResizerManifest) {
+
+		final String outputFilePathString;
+		if (imageType != null) {
+			outputFilePathString = PathUtils.computePathWoExt(outputFilePathStringParam) + ".jpg";
+		} else {
+			outputFilePathString = outputFilePathStringParam;
+		}
+
+		final String filePathString = discoveredFile.filePathString();
+		final boolean success;
+		if (imgResizerManifest != null &&
+				imgResizerManifest.checkUpToDate(relativePath, discoveredFile, outputFilePathString)) {
+
+			if (imgResizerSettings.verbose()) {
+				Logger.printLine("skipping unchanged file:");
+				Logger.printLine(filePathString);
+			}
+			ImgResizerStatistics.incrementCounter(ImgResizerStatistics.Counter.SKIPPED);
+			success = true;
+
+		} else {
+			final FileOutcome fileOutcome;
+			if (imageType != null) {
+				fileOutcome = resizeImage(filePathString, outputFilePathString, imageType, imgResizerSettings);
+			} else {
+				final boolean copyFileSuccess =
+						copyFile(filePathString, outputFilePathString, imgResizerSettings, true);
+				fileOutcome = copyFileSuccess ? FileOutcome.COPIED_UNCHANGED : FileOutcome.FAILED;
+			}
+			recordFileStatistics(discoveredFile.size(), outputFilePathString, fileOutcome);
+			success = fileOutcome != FileOutcome.FAILED;
+			if (success && imgResizerManifest != null) {
+				imgResizerManifest.update(relativePath, discoveredFile);
+			}
+		}
+		return success;
+	}
+
+	/**
+	 * Each processed file is counted exactly once, based on its final outcome, so a file that was resized
+	 * but whose metadata could not be imported afterwards is counted only as failed.
+	 */
+	private static void recordFileStatistics(
+			final long fileSize,
+			final String outputFilePathString,
+			final FileOutcome fileOutcome) {
+
+		if (fileOutcome == FileOutcome.RESIZED) {
+			ImgResizerStatistics.incrementCounter(ImgResizerStatistics.Counter.RESIZED);
+		} else if (fileOutcome == FileOutcome.COPIED_UNCHANGED) {
+			ImgResizerStatistics.incrementCounter(ImgResizerStatistics.Counter.COPIED_UNCHANGED);
+		}
+		if (fileOutcome != FileOutcome.FAILED) {
+			ImgResizerStatistics.addToCounter(ImgResizerStatistics.Counter.BYTES_IN, fileSize);
+			ImgResizerStatistics.addToCounter(ImgResizerStatistics.Counter.BYTES_OUT,
+					FileSizeUtils.fileSize(outputFilePathString));
+		} else {
+			ImgResizerStatistics.incrementCounter(ImgResizerStatistics.Counter.FAILED);
+		}
+	}
+
+	private static boolean copyFile(
+			final String filePathString,
+			final String outputFilePathString,
+			final ImgResizerSettings imgResizerSettings,
+			final boolean verboseProgress) {
+
+		final long startNanos = System.nanoTime();
+		final boolean success = OutputFileLinker.createOutputFile(filePathString, outputFilePathString,
+				imgResizerSettings.outputLinkType(), verboseProgress);
+		ImgResizerStatistics.recordStage(ImgResizerStatistics.Stage.COPY, startNanos);
+		return success;
+	}
+
+	private static void consumeFiles(
+			final FileDiscoveryQueue fileDiscoveryQueue,
+			final Consumer<DiscoveredFile> fileConsumer) {
+
+		try {
+			DiscoveredFile discoveredFile;
+			while ((discoveredFile = fileDiscoveryQueue.take()) != null) {
+				fileConsumer.accept(discoveredFile);
+			}
+
+		} catch (final InterruptedException exc) {
+			Thread.currentThread().interrupt();
+			Logger.printError("processing of the discovered files was interrupted");
+			Logger.printException(exc);
+		}
+	}
+
+	private static void executeParallel(
+			final FileDiscoveryQueue fileDiscoveryQueue,
+			final Consumer<DiscoveredFile> fileConsumer,
+			final int threadCount) {
+
+		final MessageConsumer messageConsumer = Logger.getMessageConsumer();
+		final MessageConsumerBuffered messageConsumerBuffered = new MessageConsumerBuffered(messageConsumer);
+		Logger.setMessageConsumer(messageConsumerBuffered);
+		final ProgressIndicator progressIndicator = ProgressIndicators.getInstance();
+		ProgressIndicators.setInstance(ProgressIndicatorConsole.INSTANCE);
+		try {
+			fileDiscoveryQueue.start();
+
+			final AtomicInteger processedFileCount = new AtomicInteger();
+			final Consumer<DiscoveredFile> bufferedFileConsumer = discoveredFile -> {
+
+				messageConsumerBuffered.startBuffering();
+				try {
+					fileConsumer.accept(discoveredFile);
+				} finally {
+					messageConsumerBuffered.flushBuffer();
+				}
+				final int processedFileCountValue = processedFileCount.incrementAndGet();
+				if (processedFileCountValue % SHOW_PROGRESS_INTERVAL == 0) {
+					ProgressIndicators.getInstance().update(processedFileCountValue,
+							fileDiscoveryQueue.getDiscoveredFileCount());
+				}
+			};
+
+			final List<Runnable> runnableList = new ArrayList<>();
+			for (int i = 0; i < threadCount; i++) {
+				runnableList.add(() -> consumeFiles(fileDiscoveryQueue, bufferedFileConsumer));
+			}
+			new ConcurrencyUtilsSimpleRegular(threadCount).executeMultiThreadedTask(runnableList);
+
+		} finally {
+			ProgressIndicators.getInstance().update(0);
+			ProgressIndicators.setInstance(progressIndicator);
+			Logger.setMessageConsumer(messageConsumer);
+		}
+	}
+
+	private static FileOutcome resizeImage(
 			final String filePathString,
 			final String outputFilePathString,
-			final boolean verbose,
 			final ImageType imageType,
-			final int length) {
+			final ImgResizerSettings imgResizerSettings) {
 
-		boolean success = false;
-		final List<String> tmpFilePathStringList = new ArrayList<>();
+		FileOutcome fileOutcome = FileOutcome.FAILED;
 		try {
 			Logger.printNewLine();
 			Logger.printProgress("copying image file:");
@@ -162,73 +406,108 @@ final class AppStartImgResizer {
 			Logger.printLine("to:");
 			Logger.printLine(outputFilePathString);
 
-			success = FactoryFileDeleter.getInstance()
+			final boolean deleteFileSuccess = FactoryFileDeleter.getInstance()
 					.deleteFile(outputFilePathString, false, true);
-			if (success) {
+			if (deleteFileSuccess) {
 
-				success = FactoryFolderCreator.getInstance()
+				final boolean createParentDirectoriesSuccess = FactoryFolderCreator.getInstance()
 						.createParentDirectories(outputFilePathString, false, true);
-				if (success) {
-
-					final String jpgFilePathString;
-					if (imageType != ImageType.JPG) {
-
-						jpgFilePathString = PathUtils.computePathWoExt(filePathString) + ".jpg";
-						tmpFilePathStringList.add(jpgFilePathString);
-						success = convertImageToJpg(filePathString, jpgFilePathString);
+				if (createParentDirectoriesSuccess) {
+
+					final long probeStartNanos = System.nanoTime();
+					final ImageDimensions imageDimensions =
+							ImageDimensionsProbe.probeImageDimensions(filePathString, imageType);
+					ImgResizerStatistics.recordStage(ImgResizerStatistics.Stage.PROBE, probeStartNanos);
+					if (imageDimensions != null && !checkNeedToResizeImage(imageDimensions.width(),
+							imageDimensions.height(), imgResizerSettings.length(), filePathString)) {
+
+						Logger.printLine("image width: " +
+								StrUtils.positiveIntToString(imageDimensions.width(), true));
+						Logger.printLine("image height: " +
+								StrUtils.positiveIntToString(imageDimensions.height(), true));
+						final boolean copyImageSuccess = copyImageWithoutResizing(filePathString,
+								outputFilePathString, imageType, imgResizerSettings);
+						if (copyImageSuccess) {
+							fileOutcome = FileOutcome.COPIED_UNCHANGED;
+						}
 
 					} else {
-						jpgFilePathString = filePathString;
+						fileOutcome = resizeImageL1(filePathString, outputFilePathString, imageType,
+								imageDimensions, imgResizerSettings);
 					}
-					if (success) {
+				}
+			}
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to copy image file:" +
+					System.lineSeparator() + filePathString);
+			Logger.printException(exc);
+		}
+		return fileOutcome;
+	}
+
+	private static boolean copyImageWithoutResizing(
+			final String filePathString,
+			final String outputFilePathString,
+			final ImageType imageType,
+			final ImgResizerSettings imgResizerSettings) {
+
+		final boolean success;
+		if (imageType == ImageType.JPG) {
+			success = copyFile(filePathString, outputFilePathString, imgResizerSettings, false);
+		} else {
+			final long startNanos = System.nanoTime();
+			success = convertImageToJpg(filePathString, outputFilePathString);
+			ImgResizerStatistics.recordStage(ImgResizerStatistics.Stage.CONVERT, startNanos);
+		}
+		return success;
+	}
 
-						final MetadataExporter metadataExporter =
-								new MetadataExporter(jpgFilePathString, ImageType.JPG);
-						metadataExporter.work();
+	/**
+	 * The input image is decoded only once, by the resize engine, also for the non-JPG input types, and its metadata
+	 * is read directly from the input file.
+	 */
+	private static FileOutcome resizeImageL1(
+			final String filePathString,
+			final String outputFilePathString,
+			final ImageType imageType,
+			final ImageDimensions imageDimensions,
+			final ImgResizerSettings imgResizerSettings) {
 
-						final String metadataXmlPathString =
-								metadataExporter.getMetadataXmlPathString();
-						tmpFilePathStringList.add(metadataXmlPathString);
+		final long exportStartNanos = System.nanoTime();
+		final MetadataExporter metadataExporter = new MetadataExporter(filePathString, imageType);
+		metadataExporter.work();
+		ImgResizerStatistics.recordStage(ImgResizerStatistics.Stage.EXPORT_METADATA, exportStartNanos);
 
-						success = metadataExporter.isSuccess();
-						if (success) {
+		FileOutcome fileOutcome = FileOutcome.FAILED;
+		if (metadataExporter.isSuccess()) {
 
-							final ResizeImageOutput resizeImageL2Return = resizeImageL2(
-									jpgFilePathString, outputFilePathString, metadataExporter, length, verbose);
-							success = resizeImageL2Return.success();
-							if (success) {
+			final ResizeImageOutput resizeImageL2Return = resizeImageL2(filePathString, outputFilePathString,
+					imageType, metadataExporter, imageDimensions, imgResizerSettings);
+			if (resizeImageL2Return.success()) {
 
-								final boolean needToImportMetadata = resizeImageL2Return.needToImportMetadata();
-								if (needToImportMetadata) {
+				final boolean needToImportMetadata = resizeImageL2Return.needToImportMetadata();
+				if (needToImportMetadata) {
 
-									final MetadataImporter metadataImporter =
-											new MetadataImporter(outputFilePathString, metadataXmlPathString);
-									metadataImporter.work();
+					final long importStartNanos = System.nanoTime();
+					final MetadataImporter metadataImporter =
+							new MetadataImporter(outputFilePathString, metadataExporter.getMetadataXmlContent());
+					metadataImporter.work();
+					ImgResizerStatistics.recordStage(ImgResizerStatistics.Stage.IMPORT_METADATA, importStartNanos);
 
-									success = metadataImporter.isSuccess();
-								}
-							}
-						}
+					if (metadataImporter.isSuccess()) {
+						fileOutcome = FileOutcome.RESIZED;
 					}
-				}
-			}
 
-		} catch (final Exception exc) {
-			Logger.printError("failed to copy image file:" +
-					System.lineSeparator() + filePathString);
-			Logger.printException(exc);
-
-		} finally {
-			if (!verbose) {
-				for (final String tmpFilePathString : tmpFilePathStringList) {
-					FactoryFileDeleter.getInstance().deleteFile(tmpFilePathString, true, true);
+				} else {
+					fileOutcome = FileOutcome.COPIED_UNCHANGED;
 				}
 			}
 		}
-		return success;
+		return fileOutcome;
 	}
 
-	private static boolean convertImageToJpg(
+	static boolean convertImageToJpg(
 			final String filePathString,
 			final String jpgFilePathString) {
 
@@ -236,7 +515,7 @@ final class AppStartImgResizer {
 		try {
 			Logger.printProgress("converting image to JPG");
 
-			ProcessStarter.setGlobalSearchPath("D:\\IVI_MISC\\Apps\\ImageMagick");
+			ProcessStarter.setGlobalSearchPath(ImageResizerImageMagick.IMAGE_MAGICK_FOLDER_PATH_STRING);
 			final ConvertCmd convertCmd = new ConvertCmd();
 
 			final IMOperation imOperation = new IMOperation();
@@ -258,64 +537,48 @@ final class AppStartImgResizer {
 	}
 
 	private static ResizeImageOutput resizeImageL2(
-			final String jpgFilePathString,
+			final String filePathString,
 			final String outputFilePathString,
+			final ImageType imageType,
 			final MetadataExporter metadataExporter,
-			final int length,
-			final boolean verbose) {
+			final ImageDimensions imageDimensions,
+			final ImgResizerSettings imgResizerSettings) {
 
 		boolean success = false;
 		boolean needToImportMetadata = false;
 		try {
-			final int imageWidth = metadataExporter.getImageWidth();
-			final int imageHeight = metadataExporter.getImageHeight();
+			final int length = imgResizerSettings.length();
+			final int imageWidth;
+			final int imageHeight;
+			if (imageDimensions != null) {
+				imageWidth = imageDimensions.width();
+				imageHeight = imageDimensions.height();
+			} else {
+				imageWidth = metadataExporter.getImageWidth();
+				imageHeight = metadataExporter.getImageHeight();
+			}
 			final boolean needToResizeImage =
-					checkNeedToResizeImage(imageWidth, imageHeight, length, jpgFilePathString);
+					checkNeedToResizeImage(imageWidth, imageHeight, length, filePathString);
 			if (!needToResizeImage) {
-				success = FactoryFileCopier.getInstance()
-						.copyFile(jpgFilePathString, outputFilePathString, true, false, true);
+				success = copyImageWithoutResizing(filePathString, outputFilePathString, imageType,
+						imgResizerSettings);
 
 			} else {
 				Logger.printProgress("resizing image");
 
-				final String scale;
-				if (imageWidth > imageHeight) {
-					scale = "scale=-1:" + length;
-				} else {
-					scale = "scale=" + length + ":-1";
-				}
-
-				final String[] commandPartArray = { "ffmpeg", "-i", jpgFilePathString,
-						"-movflags", "use_metadata_tags", "-map_metadata", "0",
-						"-vf", scale, outputFilePathString };
-				if (verbose) {
-
-					Logger.printProgress("executing command:");
-					Logger.printLine(StringUtils.join(commandPartArray, ' '));
-				}
-
-				final ProcessBuilder.Redirect processBuilderRedirect;
-				if (verbose) {
-					processBuilderRedirect = ProcessBuilder.Redirect.INHERIT;
-				} else {
-					processBuilderRedirect = ProcessBuilder.Redirect.DISCARD;
-				}
-
-				final Process process = new ProcessBuilder()
-						.command(commandPartArray)
-						.directory(new File(outputFilePathString).getParentFile())
-						.redirectOutput(processBuilderRedirect)
-						.redirectError(processBuilderRedirect)
-						.start();
-				final int exitCode = process.waitFor();
-				success = exitCode == 0;
+				final ImageResizer imageResizer =
+						FactoryImageResizer.getInstance(imgResizerSettings.imageResizerType(), imageType);
+				final long resizeStartNanos = System.nanoTime();
+				success = imageResizer.resizeImage(filePathString, outputFilePathString,
+						imageWidth, imageHeight, length, imgResizerSettings.verbose());
+				ImgResizerStatistics.recordStage(ImgResizerStatistics.Stage.RESIZE, resizeStartNanos);
 
 				needToImportMetadata = true;
 			}
 
 		} catch (final Exception exc) {
 			Logger.printError("failed to resize image " +
-					System.lineSeparator() + jpgFilePathString +
+					System.lineSeparator() + filePathString +
 					System.lineSeparator() + "to:" +
 					System.lineSeparator() + outputFilePathString);
 			Logger.printException(exc);
@@ -328,6 +591,12 @@ final class AppStartImgResizer {
 			boolean needToImportMetadata) {
 	}
 
+	private enum FileOutcome {
+		RESIZED,
+		COPIED_UNCHANGED,
+		FAILED
+	}
+
 	private static boolean checkNeedToResizeImage(
 			final int imageWidth,
 			final int imageHeight,
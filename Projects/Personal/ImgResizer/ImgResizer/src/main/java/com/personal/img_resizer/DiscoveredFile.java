@@ -0,0 +1,11 @@
+package com.personal.img_resizer;
+
+/**
+ * An input file together with the attributes read while walking the input folder, so that they do not need to be
+ * read again for every file.
+ */
+record DiscoveredFile(
+		String filePathString,
+		long size,
+		long lastModifiedTime) {
+}
@@ -0,0 +1,154 @@
+package com.personal.img_resizer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.utils.io.processes.InputStreamReaderThread;
+import com.utils.io.processes.ReadBytesHandlerLinesPrint;
+import com.utils.log.Logger;
+import com.utils.string.StrUtils;
+
+/**
+ * Long-lived exiftool process started with "-stay_open True -@ -". The arguments of each command are written to the
+ * standard input of the process, one per line, followed by "-execute", and the output of the command is read up to
+ * the "{ready}" line, so the Perl interpreter is started only once for every worker thread, instead of once for every
+ * image.
+ */
+final class ExifToolSession {
+
+	private static final String READY_LINE = "{ready}";
+	private static final String STATUS_PREFIX = "exiftool status: ";
+
+	private static final ThreadLocal<ExifToolSession> EXIF_TOOL_SESSION_THREAD_LOCAL = new ThreadLocal<>();
+	private static final Queue<ExifToolSession> EXIF_TOOL_SESSION_QUEUE = new ConcurrentLinkedQueue<>();
+
+	private final Process process;
+	private final BufferedWriter bufferedWriter;
+	private final BufferedReader bufferedReader;
+
+	private ExifToolSession(
+			final Process process) {
+
+		this.process = process;
+
+		bufferedWriter = new BufferedWriter(
+				new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+		bufferedReader = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return the session of the current thread, started on first use or after the previous process has died
+	 */
+	static ExifToolSession getInstance() throws Exception {
+
+		ExifToolSession exifToolSession = EXIF_TOOL_SESSION_THREAD_LOCAL.get();
+		if (exifToolSession == null || !exifToolSession.process.isAlive()) {
+
+			if (exifToolSession != null) {
+				EXIF_TOOL_SESSION_QUEUE.remove(exifToolSession);
+			}
+			exifToolSession = start();
+			EXIF_TOOL_SESSION_THREAD_LOCAL.set(exifToolSession);
+			EXIF_TOOL_SESSION_QUEUE.add(exifToolSession);
+		}
+		return exifToolSession;
+	}
+
+	private static ExifToolSession start() throws Exception {
+
+		final Process process = new ProcessBuilder()
+				.command("exiftool", "-stay_open", "True", "-@", "-",
+						"-common_args", "-charset", "filename=utf8")
+				.start();
+		new InputStreamReaderThread("exiftool errors", process.getErrorStream(), StandardCharsets.UTF_8,
+				new ReadBytesHandlerLinesPrint()).start();
+		return new ExifToolSession(process);
+	}
+
+	/**
+	 * Stops the processes of all the sessions started so far.
+	 */
+	static void closeAll() {
+
+		ExifToolSession exifToolSession;
+		while ((exifToolSession = EXIF_TOOL_SESSION_QUEUE.poll()) != null) {
+			exifToolSession.close();
+		}
+	}
+
+	/**
+	 * Runs one exiftool command in this session. The exit status of the command is requested through "-echo3" and
+	 * is read from the last output line before "{ready}".
+	 */
+	ExifToolOutput execute(
+			final String... args) throws Exception {
+
+		for (final String arg : args) {
+			writeLine(arg);
+		}
+		writeLine("-echo3");
+		writeLine(STATUS_PREFIX + "${status}");
+		writeLine("-execute");
+		bufferedWriter.flush();
+
+		int status = -1;
+		final List<String> lineList = new ArrayList<>();
+		while (true) {
+
+			final String line = bufferedReader.readLine();
+			if (line == null) {
+				throw new Exception("exiftool process ended unexpectedly");
+			}
+			if (READY_LINE.equals(line)) {
+				break;
+			}
+			if (line.startsWith(STATUS_PREFIX)) {
+				final String statusString = line.substring(STATUS_PREFIX.length()).trim();
+				status = StrUtils.tryParsePositiveInt(statusString);
+			} else {
+				lineList.add(line);
+			}
+		}
+		return new ExifToolOutput(lineList, status);
+	}
+
+	private void writeLine(
+			final String line) throws Exception {
+
+		bufferedWriter.write(line);
+		bufferedWriter.write('\n');
+	}
+
+	private void close() {
+
+		try {
+			writeLine("-stay_open");
+			writeLine("False");
+			bufferedWriter.flush();
+			bufferedWriter.close();
+
+			if (!process.waitFor(5, TimeUnit.SECONDS)) {
+				process.destroy();
+			}
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to stop exiftool process");
+			Logger.printException(exc);
+			process.destroy();
+		}
+	}
+
+	record ExifToolOutput(
+			List<String> lineList,
+			int status) {
+	}
+}
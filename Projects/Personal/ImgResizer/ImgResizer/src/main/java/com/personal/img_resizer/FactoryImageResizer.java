@@ -0,0 +1,51 @@
+package com.personal.img_resizer;
+
+final class FactoryImageResizer {
+
+	private static final ImageResizer IMAGE_RESIZER_FFMPEG = new ImageResizerFfmpeg();
+	private static final ImageResizer IMAGE_RESIZER_JAVA = new ImageResizerJava();
+	private static final ImageResizer IMAGE_RESIZER_IMAGE_MAGICK = new ImageResizerImageMagick();
+
+	private FactoryImageResizer() {
+	}
+
+	static ImageResizerType computeImageResizerType(
+			final String imageResizerTypeString) {
+
+		ImageResizerType imageResizerType = null;
+		for (final ImageResizerType currentImageResizerType : ImageResizerType.values()) {
+
+			if (currentImageResizerType.name().equalsIgnoreCase(imageResizerTypeString)) {
+				imageResizerType = currentImageResizerType;
+				break;
+			}
+		}
+		return imageResizerType;
+	}
+
+	static ImageResizer getInstance(
+			final ImageResizerType imageResizerType) {
+
+		final ImageResizer imageResizer;
+		if (imageResizerType == ImageResizerType.JAVA) {
+			imageResizer = IMAGE_RESIZER_JAVA;
+		} else {
+			imageResizer = IMAGE_RESIZER_FFMPEG;
+		}
+		return imageResizer;
+	}
+
+	/**
+	 * @return the resizer of the given type if it can decode the given image type, the ImageMagick resizer otherwise
+	 */
+	static ImageResizer getInstance(
+			final ImageResizerType imageResizerType,
+			final ImageType imageType) {
+
+		ImageResizer imageResizer = getInstance(imageResizerType);
+		if (!imageResizer.supportsImageType(imageType)) {
+			imageResizer = IMAGE_RESIZER_IMAGE_MAGICK;
+		}
+		return imageResizer;
+	}
+}
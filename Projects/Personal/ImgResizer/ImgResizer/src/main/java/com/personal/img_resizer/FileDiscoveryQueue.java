@@ -0,0 +1,97 @@
+package com.personal.img_resizer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.utils.io.ListFileUtils;
+import com.utils.log.Logger;
+
+/**
+ * Walks the input folder in the background, listing several folders at a time, and hands the file paths over to
+ * the consumers through a bounded queue. The walker blocks while the queue is full, so the processing of the first
+ * files starts right away and the memory used does not grow with the size of the folder tree. The walker threads
+ * that block are not replaced, so there are never more than {@link #WALKER_THREAD_COUNT} of them.
+ */
+class FileDiscoveryQueue {
+
+	private static final int CAPACITY_PER_CONSUMER = 64;
+	private static final int WALKER_THREAD_COUNT = 8;
+	private static final DiscoveredFile END_OF_FILES = new DiscoveredFile("\0", -1, -1);
+
+	private final String rootFolderPathString;
+	private final int consumerCount;
+
+	private final BlockingQueue<DiscoveredFile> discoveredFileQueue;
+	private final AtomicInteger discoveredFileCount;
+
+	FileDiscoveryQueue(
+			final String rootFolderPathString,
+			final int consumerCount) {
+
+		this.rootFolderPathString = rootFolderPathString;
+		this.consumerCount = consumerCount;
+
+		discoveredFileQueue = new ArrayBlockingQueue<>(consumerCount * CAPACITY_PER_CONSUMER);
+		discoveredFileCount = new AtomicInteger();
+	}
+
+	void start() {
+
+		final Thread thread = new Thread(this::discoverFiles, "file discovery");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void discoverFiles() {
+
+		try {
+			ListFileUtils.visitFilesRecursivelyParallel(rootFolderPathString, Integer.MAX_VALUE, null,
+					WALKER_THREAD_COUNT, false,
+					(dirPath, basicFileAttributes) -> {
+					},
+					(filePath, basicFileAttributes) -> {
+						final DiscoveredFile discoveredFile = new DiscoveredFile(filePath.toString(),
+								basicFileAttributes.size(), basicFileAttributes.lastModifiedTime().toMillis());
+						putDiscoveredFile(discoveredFile);
+						discoveredFileCount.incrementAndGet();
+					});
+
+		} finally {
+			for (int i = 0; i < consumerCount; i++) {
+				putDiscoveredFile(END_OF_FILES);
+			}
+		}
+	}
+
+	private void putDiscoveredFile(
+			final DiscoveredFile discoveredFile) {
+
+		try {
+			discoveredFileQueue.put(discoveredFile);
+
+		} catch (final InterruptedException exc) {
+			Thread.currentThread().interrupt();
+			Logger.printError("file discovery was interrupted");
+			Logger.printException(exc);
+		}
+	}
+
+	/**
+	 * Blocks until the next file is discovered. Each consumer receives the end of the files exactly once.
+	 *
+	 * @return the next file or null if all the files were discovered
+	 */
+	DiscoveredFile take() throws InterruptedException {
+
+		DiscoveredFile discoveredFile = discoveredFileQueue.take();
+		if (discoveredFile == END_OF_FILES) {
+			discoveredFile = null;
+		}
+		return discoveredFile;
+	}
+
+	int getDiscoveredFileCount() {
+		return discoveredFileCount.get();
+	}
+}
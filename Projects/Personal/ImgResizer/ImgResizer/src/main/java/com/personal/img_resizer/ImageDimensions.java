@@ -0,0 +1,6 @@
+package com.personal.img_resizer;
+
+record ImageDimensions(
+		int width,
+		int height) {
+}
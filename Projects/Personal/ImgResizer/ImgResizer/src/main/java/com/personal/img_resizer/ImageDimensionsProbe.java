@@ -0,0 +1,304 @@
+package com.personal.img_resizer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import com.utils.log.Logger;
+
+/**
+ * Reads the dimensions of an image from its file header, without decoding the image and without starting an
+ * external process. Only the first few KB of the file are read; for JPG files the segments that precede the frame
+ * header are skipped without being read.
+ */
+final class ImageDimensionsProbe {
+
+	private static final int HEADER_SIZE = 64 * 1024;
+
+	private ImageDimensionsProbe() {
+	}
+
+	/**
+	 * @return the dimensions of the image or null if they could not be read from the file header
+	 */
+	static ImageDimensions probeImageDimensions(
+			final String filePathString,
+			final ImageType imageType) {
+
+		ImageDimensions imageDimensions = null;
+		try {
+			final Path filePath = Paths.get(filePathString);
+			try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+
+				if (imageType == ImageType.JPG) {
+					imageDimensions = probeJpgDimensions(fileChannel);
+
+				} else {
+					final ByteBuffer headerByteBuffer = readBytes(fileChannel, 0, HEADER_SIZE);
+					if (imageType == ImageType.PNG) {
+						imageDimensions = probePngDimensions(headerByteBuffer);
+					} else if (imageType == ImageType.WEBP) {
+						imageDimensions = probeWebpDimensions(headerByteBuffer);
+					} else if (imageType == ImageType.HEIC) {
+						imageDimensions = probeHeicDimensions(headerByteBuffer);
+					}
+				}
+			}
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to read image dimensions from the header of file:" +
+					System.lineSeparator() + filePathString);
+			Logger.printException(exc);
+		}
+		return imageDimensions;
+	}
+
+	private static ImageDimensions probeJpgDimensions(
+			final FileChannel fileChannel) throws Exception {
+
+		ImageDimensions imageDimensions = null;
+		final long fileSize = fileChannel.size();
+		final ByteBuffer soiByteBuffer = readBytes(fileChannel, 0, 2);
+		if (soiByteBuffer.remaining() == 2 &&
+				(soiByteBuffer.get(0) & 0xFF) == 0xFF && (soiByteBuffer.get(1) & 0xFF) == 0xD8) {
+
+			long position = 2;
+			while (position + 4 <= fileSize) {
+
+				final ByteBuffer markerByteBuffer = readBytes(fileChannel, position, 4);
+				if (markerByteBuffer.remaining() < 4 || (markerByteBuffer.get(0) & 0xFF) != 0xFF) {
+					break;
+				}
+
+				final int marker = markerByteBuffer.get(1) & 0xFF;
+				if (marker == 0xFF) {
+					position++;
+					continue;
+				}
+				if (marker == 0x01 || marker >= 0xD0 && marker <= 0xD8) {
+					position += 2;
+					continue;
+				}
+				if (marker == 0xD9 || marker == 0xDA) {
+					break;
+				}
+
+				final int segmentLength = markerByteBuffer.getShort(2) & 0xFFFF;
+				if (checkJpgStartOfFrameMarker(marker)) {
+
+					final ByteBuffer sofByteBuffer = readBytes(fileChannel, position + 5, 4);
+					if (sofByteBuffer.remaining() == 4) {
+
+						final int height = sofByteBuffer.getShort(0) & 0xFFFF;
+						final int width = sofByteBuffer.getShort(2) & 0xFFFF;
+						imageDimensions = createImageDimensions(width, height);
+					}
+					break;
+				}
+				position += 2 + segmentLength;
+			}
+		}
+		return imageDimensions;
+	}
+
+	private static boolean checkJpgStartOfFrameMarker(
+			final int marker) {
+
+		return marker >= 0xC0 && marker <= 0xCF &&
+				marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+	}
+
+	private static ImageDimensions probePngDimensions(
+			final ByteBuffer headerByteBuffer) {
+
+		ImageDimensions imageDimensions = null;
+		if (headerByteBuffer.remaining() >= 24 &&
+				headerByteBuffer.getInt(0) == 0x89504E47 && headerByteBuffer.getInt(4) == 0x0D0A1A0A &&
+				checkFourCc(headerByteBuffer, 12, "IHDR")) {
+
+			final int width = headerByteBuffer.getInt(16);
+			final int height = headerByteBuffer.getInt(20);
+			imageDimensions = createImageDimensions(width, height);
+		}
+		return imageDimensions;
+	}
+
+	private static ImageDimensions probeWebpDimensions(
+			final ByteBuffer headerByteBuffer) {
+
+		ImageDimensions imageDimensions = null;
+		if (headerByteBuffer.remaining() >= 30 &&
+				checkFourCc(headerByteBuffer, 0, "RIFF") && checkFourCc(headerByteBuffer, 8, "WEBP")) {
+
+			final ByteBuffer littleEndianByteBuffer =
+					headerByteBuffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+			if (checkFourCc(headerByteBuffer, 12, "VP8 ")) {
+
+				final int width = littleEndianByteBuffer.getShort(26) & 0x3FFF;
+				final int height = littleEndianByteBuffer.getShort(28) & 0x3FFF;
+				imageDimensions = createImageDimensions(width, height);
+
+			} else if (checkFourCc(headerByteBuffer, 12, "VP8L")) {
+
+				final int bits = littleEndianByteBuffer.getInt(21);
+				final int width = (bits & 0x3FFF) + 1;
+				final int height = (bits >>> 14 & 0x3FFF) + 1;
+				imageDimensions = createImageDimensions(width, height);
+
+			} else if (checkFourCc(headerByteBuffer, 12, "VP8X")) {
+
+				final int width = readUnsignedInt24(littleEndianByteBuffer, 24) + 1;
+				final int height = readUnsignedInt24(littleEndianByteBuffer, 27) + 1;
+				imageDimensions = createImageDimensions(width, height);
+			}
+		}
+		return imageDimensions;
+	}
+
+	/**
+	 * HEIC images are stored as a grid of tiles, each with its own "ispe" property, next to a thumbnail, so the
+	 * largest "ispe" property is the one of the primary image. A rotation by 90 or 270 degrees swaps the dimensions.
+	 */
+	private static ImageDimensions probeHeicDimensions(
+			final ByteBuffer headerByteBuffer) {
+
+		ImageDimensions imageDimensions = null;
+		if (headerByteBuffer.remaining() >= 12 && checkFourCc(headerByteBuffer, 4, "ftyp")) {
+
+			final HeicBoxData heicBoxData = new HeicBoxData();
+			parseHeicBoxes(headerByteBuffer, 0, headerByteBuffer.limit(), heicBoxData);
+			if (heicBoxData.width > 0 && heicBoxData.height > 0) {
+
+				if (heicBoxData.rotated) {
+					imageDimensions = createImageDimensions(heicBoxData.height, heicBoxData.width);
+				} else {
+					imageDimensions = createImageDimensions(heicBoxData.width, heicBoxData.height);
+				}
+			}
+		}
+		return imageDimensions;
+	}
+
+	private static void parseHeicBoxes(
+			final ByteBuffer byteBuffer,
+			final int startPosition,
+			final int endPosition,
+			final HeicBoxData heicBoxData) {
+
+		int position = startPosition;
+		while (position + 8 <= endPosition) {
+
+			long boxSize = byteBuffer.getInt(position) & 0xFFFFFFFFL;
+			int headerSize = 8;
+			if (boxSize == 1) {
+
+				if (position + 16 > endPosition) {
+					break;
+				}
+				boxSize = byteBuffer.getLong(position + 8);
+				headerSize = 16;
+
+			} else if (boxSize == 0) {
+				boxSize = endPosition - position;
+			}
+			if (boxSize < headerSize) {
+				break;
+			}
+
+			final int boxEndPosition = (int) Math.min(endPosition, position + boxSize);
+			final int contentPosition = position + headerSize;
+			if (checkFourCc(byteBuffer, position + 4, "meta")) {
+				parseHeicBoxes(byteBuffer, contentPosition + 4, boxEndPosition, heicBoxData);
+
+			} else if (checkFourCc(byteBuffer, position + 4, "iprp") ||
+					checkFourCc(byteBuffer, position + 4, "ipco")) {
+				parseHeicBoxes(byteBuffer, contentPosition, boxEndPosition, heicBoxData);
+
+			} else if (checkFourCc(byteBuffer, position + 4, "ispe")) {
+
+				if (contentPosition + 12 <= boxEndPosition) {
+
+					final int width = byteBuffer.getInt(contentPosition + 4);
+					final int height = byteBuffer.getInt(contentPosition + 8);
+					if ((long) width * height > (long) heicBoxData.width * heicBoxData.height) {
+
+						heicBoxData.width = width;
+						heicBoxData.height = height;
+					}
+				}
+
+			} else if (checkFourCc(byteBuffer, position + 4, "irot")) {
+
+				if (contentPosition < boxEndPosition) {
+					final int angle = byteBuffer.get(contentPosition) & 0x03;
+					heicBoxData.rotated = angle == 1 || angle == 3;
+				}
+
+			} else if (checkFourCc(byteBuffer, position + 4, "mdat")) {
+				break;
+			}
+			position = boxEndPosition;
+		}
+	}
+
+	private static final class HeicBoxData {
+
+		private int width;
+		private int height;
+		private boolean rotated;
+	}
+
+	private static ImageDimensions createImageDimensions(
+			final int width,
+			final int height) {
+
+		ImageDimensions imageDimensions = null;
+		if (width > 0 && height > 0) {
+			imageDimensions = new ImageDimensions(width, height);
+		}
+		return imageDimensions;
+	}
+
+	private static boolean checkFourCc(
+			final ByteBuffer byteBuffer,
+			final int position,
+			final String fourCc) {
+
+		boolean matches = position + 4 <= byteBuffer.limit();
+		for (int i = 0; matches && i < 4; i++) {
+			matches = byteBuffer.get(position + i) == fourCc.charAt(i);
+		}
+		return matches;
+	}
+
+	private static int readUnsignedInt24(
+			final ByteBuffer littleEndianByteBuffer,
+			final int position) {
+
+		return (littleEndianByteBuffer.get(position) & 0xFF) |
+				(littleEndianByteBuffer.get(position + 1) & 0xFF) << 8 |
+				(littleEndianByteBuffer.get(position + 2) & 0xFF) << 16;
+	}
+
+	private static ByteBuffer readBytes(
+			final FileChannel fileChannel,
+			final long position,
+			final int count) throws Exception {
+
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(count);
+		long readPosition = position;
+		while (byteBuffer.hasRemaining()) {
+
+			final int readByteCount = fileChannel.read(byteBuffer, readPosition);
+			if (readByteCount < 0) {
+				break;
+			}
+			readPosition += readByteCount;
+		}
+		byteBuffer.flip();
+		return byteBuffer;
+	}
+}
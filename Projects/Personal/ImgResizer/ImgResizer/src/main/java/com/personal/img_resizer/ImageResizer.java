@@ -0,0 +1,23 @@
+package com.personal.img_resizer;
+
+interface ImageResizer {
+
+	/**
+	 * @return true if the resizer can decode images of the given type, false otherwise
+	 */
+	boolean supportsImageType(
+			ImageType imageType);
+
+	/**
+	 * Resizes the input image so that its shorter side has the given length and writes it as JPG.
+	 *
+	 * @return true if the output image was written successfully, false otherwise
+	 */
+	boolean resizeImage(
+			String inputFilePathString,
+			String outputFilePathString,
+			int imageWidth,
+			int imageHeight,
+			int length,
+			boolean verbose);
+}
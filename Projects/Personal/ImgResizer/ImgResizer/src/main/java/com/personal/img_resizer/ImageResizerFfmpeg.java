@@ -0,0 +1,67 @@
+package com.personal.img_resizer;
+
+import java.io.File;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.utils.log.Logger;
+
+class ImageResizerFfmpeg implements ImageResizer {
+
+	@Override
+	public boolean supportsImageType(
+			final ImageType imageType) {
+		return imageType != ImageType.HEIC;
+	}
+
+	@Override
+	public boolean resizeImage(
+			final String inputFilePathString,
+			final String outputFilePathString,
+			final int imageWidth,
+			final int imageHeight,
+			final int length,
+			final boolean verbose) {
+
+		boolean success = false;
+		try {
+			final String scale;
+			if (imageWidth > imageHeight) {
+				scale = "scale=-1:" + length;
+			} else {
+				scale = "scale=" + length + ":-1";
+			}
+
+			final String[] commandPartArray = { "ffmpeg", "-i", inputFilePathString,
+					"-movflags", "use_metadata_tags", "-map_metadata", "0",
+					"-vf", scale, outputFilePathString };
+			if (verbose) {
+
+				Logger.printProgress("executing command:");
+				Logger.printLine(StringUtils.join(commandPartArray, ' '));
+			}
+
+			final ProcessBuilder.Redirect processBuilderRedirect;
+			if (verbose) {
+				processBuilderRedirect = ProcessBuilder.Redirect.INHERIT;
+			} else {
+				processBuilderRedirect = ProcessBuilder.Redirect.DISCARD;
+			}
+
+			final Process process = new ProcessBuilder()
+					.command(commandPartArray)
+					.directory(new File(outputFilePathString).getParentFile())
+					.redirectOutput(processBuilderRedirect)
+					.redirectError(processBuilderRedirect)
+					.start();
+			final int exitCode = process.waitFor();
+			success = exitCode == 0;
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to resize image with ffmpeg:" +
+					System.lineSeparator() + inputFilePathString);
+			Logger.printException(exc);
+		}
+		return success;
+	}
+}
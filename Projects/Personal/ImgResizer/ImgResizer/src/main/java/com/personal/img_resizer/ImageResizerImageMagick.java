@@ -0,0 +1,64 @@
+package com.personal.img_resizer;
+
+import org.im4java.core.ConvertCmd;
+import org.im4java.core.IMOperation;
+import org.im4java.process.ProcessStarter;
+
+import com.utils.log.Logger;
+
+/**
+ * Resizes images with ImageMagick, which decodes every supported input type. It is used for the input types that the
+ * selected engine cannot decode, so that they are resized in one pass, without an intermediate JPG file.
+ */
+class ImageResizerImageMagick implements ImageResizer {
+
+	static final String IMAGE_MAGICK_FOLDER_PATH_STRING = "D:\\IVI_MISC\\Apps\\ImageMagick";
+
+	private static final double JPG_QUALITY = 92.0;
+
+	@Override
+	public boolean supportsImageType(
+			final ImageType imageType) {
+		return true;
+	}
+
+	@Override
+	public boolean resizeImage(
+			final String inputFilePathString,
+			final String outputFilePathString,
+			final int imageWidth,
+			final int imageHeight,
+			final int length,
+			final boolean verbose) {
+
+		boolean success = false;
+		try {
+			ProcessStarter.setGlobalSearchPath(IMAGE_MAGICK_FOLDER_PATH_STRING);
+			final ConvertCmd convertCmd = new ConvertCmd();
+
+			final IMOperation imOperation = new IMOperation();
+
+			imOperation.addImage(inputFilePathString);
+
+			imOperation.resize(length, length, '^');
+			imOperation.quality(JPG_QUALITY);
+
+			imOperation.addImage(outputFilePathString);
+
+			if (verbose) {
+
+				Logger.printProgress("executing command:");
+				Logger.printLine("convert " + imOperation);
+			}
+
+			convertCmd.run(imOperation);
+			success = true;
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to resize image with ImageMagick:" +
+					System.lineSeparator() + inputFilePathString);
+			Logger.printException(exc);
+		}
+		return success;
+	}
+}
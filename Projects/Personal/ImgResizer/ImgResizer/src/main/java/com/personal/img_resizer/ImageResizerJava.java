@@ -0,0 +1,150 @@
+package com.personal.img_resizer;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Iterator;
+import java.util.Locale;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import com.utils.log.Logger;
+
+/**
+ * Resizes images in-process, without starting an external process for every image. The image is halved with
+ * bilinear interpolation while it is at least twice as large as the target and the last step is done with bicubic
+ * interpolation, which gives a quality comparable to area averaging at a fraction of its cost.
+ */
+class ImageResizerJava implements ImageResizer {
+
+	private static final float JPG_QUALITY = 0.92f;
+
+	@Override
+	public boolean supportsImageType(
+			final ImageType imageType) {
+
+		final String formatName;
+		if (imageType == ImageType.JPG) {
+			formatName = "jpeg";
+		} else {
+			formatName = imageType.name().toLowerCase(Locale.US);
+		}
+		return ImageIO.getImageReadersByFormatName(formatName).hasNext();
+	}
+
+	@Override
+	public boolean resizeImage(
+			final String inputFilePathString,
+			final String outputFilePathString,
+			final int imageWidth,
+			final int imageHeight,
+			final int length,
+			final boolean verbose) {
+
+		boolean success = false;
+		try {
+			final BufferedImage inputImage = ImageIO.read(new File(inputFilePathString));
+			if (inputImage == null) {
+				Logger.printError("no image reader available for file:" +
+						System.lineSeparator() + inputFilePathString);
+
+			} else {
+				final int inputWidth = inputImage.getWidth();
+				final int inputHeight = inputImage.getHeight();
+				final int outputWidth;
+				final int outputHeight;
+				if (inputWidth > inputHeight) {
+					outputWidth = (int) Math.round((double) inputWidth * length / inputHeight);
+					outputHeight = length;
+				} else {
+					outputWidth = length;
+					outputHeight = (int) Math.round((double) inputHeight * length / inputWidth);
+				}
+				if (verbose) {
+					Logger.printLine("output size: " + outputWidth + "x" + outputHeight);
+				}
+
+				final BufferedImage outputImage = downscaleImage(inputImage, outputWidth, outputHeight);
+				success = writeJpg(outputImage, outputFilePathString);
+			}
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to resize image in-process:" +
+					System.lineSeparator() + inputFilePathString);
+			Logger.printException(exc);
+		}
+		return success;
+	}
+
+	static BufferedImage downscaleImage(
+			final BufferedImage inputImage,
+			final int outputWidth,
+			final int outputHeight) {
+
+		BufferedImage image = inputImage;
+		int width = image.getWidth();
+		int height = image.getHeight();
+		while (width / 2 >= outputWidth && height / 2 >= outputHeight) {
+
+			width /= 2;
+			height /= 2;
+			image = scaleImage(image, width, height, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		}
+		return scaleImage(image, outputWidth, outputHeight, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+	}
+
+	private static BufferedImage scaleImage(
+			final BufferedImage image,
+			final int width,
+			final int height,
+			final Object interpolation) {
+
+		final BufferedImage scaledImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		final Graphics2D graphics = scaledImage.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.setRenderingHint(RenderingHints.KEY_COLOR_RENDERING,
+					RenderingHints.VALUE_COLOR_RENDER_QUALITY);
+			graphics.drawImage(image, 0, 0, width, height, null);
+
+		} finally {
+			graphics.dispose();
+		}
+		return scaledImage;
+	}
+
+	static boolean writeJpg(
+			final BufferedImage image,
+			final String outputFilePathString) throws Exception {
+
+		boolean success = false;
+		final Iterator<ImageWriter> imageWriterIterator = ImageIO.getImageWritersByFormatName("jpeg");
+		if (!imageWriterIterator.hasNext()) {
+			Logger.printError("no JPG image writer available");
+
+		} else {
+			final ImageWriter imageWriter = imageWriterIterator.next();
+			try (ImageOutputStream imageOutputStream =
+					ImageIO.createImageOutputStream(new File(outputFilePathString))) {
+
+				final ImageWriteParam imageWriteParam = imageWriter.getDefaultWriteParam();
+				imageWriteParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				imageWriteParam.setCompressionQuality(JPG_QUALITY);
+
+				imageWriter.setOutput(imageOutputStream);
+				imageWriter.write(null, new IIOImage(image, null, null), imageWriteParam);
+				success = true;
+
+			} finally {
+				imageWriter.dispose();
+			}
+		}
+		return success;
+	}
+}
@@ -0,0 +1,7 @@
+package com.personal.img_resizer;
+
+enum ImageResizerType {
+
+	FFMPEG,
+	JAVA
+}
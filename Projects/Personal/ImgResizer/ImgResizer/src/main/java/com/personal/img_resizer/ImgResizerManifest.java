@@ -0,0 +1,191 @@
+package com.personal.img_resizer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.utils.hash.HashUtils;
+import com.utils.io.IoUtils;
+import com.utils.io.PathUtils;
+import com.utils.io.ReaderUtils;
+import com.utils.io.WriterUtils;
+import com.utils.io.file_movers.FactoryFileMover;
+import com.utils.log.Logger;
+import com.utils.string.StrUtils;
+
+/**
+ * Manifest of the files processed by a previous run, stored in the output folder. For every input file it records
+ * the size, the last modified time, the content hash and the resize parameters, so that an incremental run can skip
+ * the files that did not change. The hash is computed only when the size matches, but the last modified time does
+ * not.
+ */
+class ImgResizerManifest {
+
+	static final String MANIFEST_FILE_NAME = "img_resizer_manifest.txt";
+
+	private static final String HEADER_LINE = "# img_resizer manifest v1";
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final String SEPARATOR = "\t";
+
+	private final String manifestFilePathString;
+	private final String parameters;
+	private final Map<String, ManifestEntry> previousManifestEntryMap;
+	private final Map<String, ManifestEntry> manifestEntryMap;
+	private final AtomicInteger skippedFileCount;
+
+	private ImgResizerManifest(
+			final String manifestFilePathString,
+			final String parameters,
+			final Map<String, ManifestEntry> previousManifestEntryMap) {
+
+		this.manifestFilePathString = manifestFilePathString;
+		this.parameters = parameters;
+		this.previousManifestEntryMap = previousManifestEntryMap;
+
+		manifestEntryMap = new ConcurrentHashMap<>();
+		skippedFileCount = new AtomicInteger();
+	}
+
+	static ImgResizerManifest load(
+			final String outputFolderPathString,
+			final ImgResizerSettings imgResizerSettings) {
+
+		final String manifestFilePathString =
+				PathUtils.computePath(outputFolderPathString, MANIFEST_FILE_NAME);
+		final String parameters = "length=" + imgResizerSettings.length() +
+				",engine=" + imgResizerSettings.imageResizerType();
+
+		final Map<String, ManifestEntry> previousManifestEntryMap = new ConcurrentHashMap<>();
+		if (IoUtils.fileExists(manifestFilePathString)) {
+
+			Logger.printProgress("loading manifest file:");
+			Logger.printLine(manifestFilePathString);
+
+			final List<String> lineList =
+					ReaderUtils.tryFileToLineList(manifestFilePathString, StandardCharsets.UTF_8);
+			if (!lineList.isEmpty() && HEADER_LINE.equals(lineList.getFirst())) {
+
+				for (int i = 1; i < lineList.size(); i++) {
+
+					final String line = lineList.get(i);
+					final String[] lineParts = line.split(SEPARATOR, -1);
+					if (lineParts.length == 5) {
+
+						final Long size = StrUtils.tryParseLong(lineParts[1]);
+						final Long lastModifiedTime = StrUtils.tryParseLong(lineParts[2]);
+						if (size != null && lastModifiedTime != null) {
+
+							final ManifestEntry manifestEntry =
+									new ManifestEntry(size, lastModifiedTime, lineParts[3], lineParts[4]);
+							previousManifestEntryMap.put(lineParts[0], manifestEntry);
+						}
+					}
+				}
+
+			} else {
+				Logger.printWarning("ignoring manifest file with unknown format");
+			}
+		}
+		return new ImgResizerManifest(manifestFilePathString, parameters, previousManifestEntryMap);
+	}
+
+	/**
+	 * @return true if the input file was processed by a previous run with the same parameters, did not change since
+	 *         then and its output file still exists
+	 */
+	boolean checkUpToDate(
+			final String relativePath,
+			final DiscoveredFile discoveredFile,
+			final String outputFilePathString) {
+
+		boolean upToDate = false;
+		final ManifestEntry previousManifestEntry = previousManifestEntryMap.get(relativePath);
+		if (previousManifestEntry != null && parameters.equals(previousManifestEntry.parameters()) &&
+				IoUtils.fileExists(outputFilePathString)) {
+
+			final long size = discoveredFile.size();
+			if (size == previousManifestEntry.size()) {
+
+				final long lastModifiedTime = discoveredFile.lastModifiedTime();
+				if (lastModifiedTime == previousManifestEntry.lastModifiedTime()) {
+
+					manifestEntryMap.put(relativePath, previousManifestEntry);
+					upToDate = true;
+
+				} else {
+					final String hash = HashUtils.computeFileHash(discoveredFile.filePathString(), HASH_ALGORITHM);
+					if (hash != null && hash.equals(previousManifestEntry.hash())) {
+
+						manifestEntryMap.put(relativePath,
+								new ManifestEntry(size, lastModifiedTime, hash, parameters));
+						upToDate = true;
+					}
+				}
+			}
+		}
+		if (upToDate) {
+			skippedFileCount.incrementAndGet();
+		}
+		return upToDate;
+	}
+
+	void update(
+			final String relativePath,
+			final DiscoveredFile discoveredFile) {
+
+		final String hash = HashUtils.computeFileHash(discoveredFile.filePathString(), HASH_ALGORITHM);
+		if (hash != null) {
+			manifestEntryMap.put(relativePath, new ManifestEntry(discoveredFile.size(),
+					discoveredFile.lastModifiedTime(), hash, parameters));
+		}
+	}
+
+	/**
+	 * Writes the entries of the files that are up to date after this run. The entries of the input files that no
+	 * longer exist or failed to be processed are dropped. The manifest is written to a temporary file first, so that
+	 * an interrupted write does not leave a truncated manifest behind.
+	 */
+	void save() {
+
+		try {
+			Logger.printProgress("saving manifest file:");
+			Logger.printLine(manifestFilePathString);
+
+			final List<String> lineList = new ArrayList<>();
+			lineList.add(HEADER_LINE);
+			final Map<String, ManifestEntry> sortedManifestEntryMap = new TreeMap<>(manifestEntryMap);
+			for (final Map.Entry<String, ManifestEntry> mapEntry : sortedManifestEntryMap.entrySet()) {
+
+				final String relativePath = mapEntry.getKey();
+				final ManifestEntry manifestEntry = mapEntry.getValue();
+				lineList.add(String.join(SEPARATOR, relativePath,
+						String.valueOf(manifestEntry.size()), String.valueOf(manifestEntry.lastModifiedTime()),
+						manifestEntry.hash(), manifestEntry.parameters()));
+			}
+
+			final String tmpManifestFilePathString = manifestFilePathString + ".tmp";
+			WriterUtils.tryLineListToFile(lineList, StandardCharsets.UTF_8, tmpManifestFilePathString);
+			FactoryFileMover.getInstance().moveFile(tmpManifestFilePathString, manifestFilePathString, false, true);
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to save manifest file:" +
+					System.lineSeparator() + manifestFilePathString);
+			Logger.printException(exc);
+		}
+	}
+
+	int getSkippedFileCount() {
+		return skippedFileCount.get();
+	}
+
+	private record ManifestEntry(
+			long size,
+			long lastModifiedTime,
+			String hash,
+			String parameters) {
+	}
+}
@@ -0,0 +1,10 @@
+package com.personal.img_resizer;
+
+record ImgResizerSettings(
+		int length,
+		boolean verbose,
+		int threadCount,
+		ImageResizerType imageResizerType,
+		boolean incremental,
+		OutputLinkType outputLinkType) {
+}
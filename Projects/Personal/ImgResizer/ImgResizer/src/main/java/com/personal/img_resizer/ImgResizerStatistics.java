@@ -0,0 +1,190 @@
+package com.personal.img_resizer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.utils.log.Logger;
+
+/**
+ * Latency histograms of the stages of the processing of an image and counters of the processed files, collected
+ * over a whole run. The histograms have one bucket for every power of two of microseconds, so recording a duration
+ * is a few atomic additions and the percentiles are reported as the upper bound of their bucket.
+ */
+final class ImgResizerStatistics {
+
+	enum Stage {
+		PROBE,
+		CONVERT,
+		EXPORT_METADATA,
+		RESIZE,
+		IMPORT_METADATA,
+		COPY
+	}
+
+	enum Counter {
+		RESIZED,
+		COPIED_UNCHANGED,
+		SKIPPED,
+		FAILED,
+		BYTES_IN,
+		BYTES_OUT
+	}
+
+	private static final int BUCKET_COUNT = 64;
+
+	private static final Map<Stage, StageStatistics> STAGE_STATISTICS_MAP = createStageStatisticsMap();
+	private static final Map<Counter, LongAdder> COUNTER_MAP = createCounterMap();
+
+	private ImgResizerStatistics() {
+	}
+
+	private static Map<Stage, StageStatistics> createStageStatisticsMap() {
+
+		final Map<Stage, StageStatistics> stageStatisticsMap = new EnumMap<>(Stage.class);
+		for (final Stage stage : Stage.values()) {
+			stageStatisticsMap.put(stage, new StageStatistics());
+		}
+		return stageStatisticsMap;
+	}
+
+	private static Map<Counter, LongAdder> createCounterMap() {
+
+		final Map<Counter, LongAdder> counterMap = new EnumMap<>(Counter.class);
+		for (final Counter counter : Counter.values()) {
+			counterMap.put(counter, new LongAdder());
+		}
+		return counterMap;
+	}
+
+	/**
+	 * @param startNanos
+	 *            the value of {@link System#nanoTime()} at the start of the stage
+	 */
+	static void recordStage(
+			final Stage stage,
+			final long startNanos) {
+
+		final long durationNanos = System.nanoTime() - startNanos;
+		STAGE_STATISTICS_MAP.get(stage).record(durationNanos);
+	}
+
+	static void incrementCounter(
+			final Counter counter) {
+
+		addToCounter(counter, 1);
+	}
+
+	static void addToCounter(
+			final Counter counter,
+			final long value) {
+
+		COUNTER_MAP.get(counter).add(value);
+	}
+
+	static long getCounterValue(
+			final Counter counter) {
+
+		return COUNTER_MAP.get(counter).sum();
+	}
+
+	static StageSummary computeStageSummary(
+			final Stage stage) {
+
+		return STAGE_STATISTICS_MAP.get(stage).computeSummary();
+	}
+
+	static void printSummary() {
+
+		Logger.printNewLine();
+		Logger.printLine(String.format("%-16s %10s %12s %10s %10s %10s %10s %10s",
+				"stage", "count", "total ms", "mean ms", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+		for (final Stage stage : Stage.values()) {
+
+			final StageSummary stageSummary = computeStageSummary(stage);
+			Logger.printLine(String.format("%-16s %10d %12.1f %10.1f %10.1f %10.1f %10.1f %10.1f",
+					stage, stageSummary.count(), stageSummary.totalMillis(), stageSummary.meanMillis(),
+					stageSummary.p50Millis(), stageSummary.p95Millis(), stageSummary.p99Millis(),
+					stageSummary.maxMillis()));
+		}
+
+		Logger.printNewLine();
+		for (final Counter counter : Counter.values()) {
+			Logger.printLine(String.format("%-16s %12d", counter, getCounterValue(counter)));
+		}
+	}
+
+	record StageSummary(
+			long count,
+			double totalMillis,
+			double meanMillis,
+			double p50Millis,
+			double p95Millis,
+			double p99Millis,
+			double maxMillis) {
+	}
+
+	private static final class StageStatistics {
+
+		private final LongAdder count;
+		private final LongAdder totalNanos;
+		private final LongAccumulator maxNanos;
+		private final AtomicLongArray bucketCounts;
+
+		StageStatistics() {
+
+			count = new LongAdder();
+			totalNanos = new LongAdder();
+			maxNanos = new LongAccumulator(Math::max, 0);
+			bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+		}
+
+		void record(
+				final long durationNanos) {
+
+			count.increment();
+			totalNanos.add(durationNanos);
+			maxNanos.accumulate(durationNanos);
+
+			final long durationMicros = Math.max(0, durationNanos / 1_000);
+			final int bucketIndex = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(durationMicros));
+			bucketCounts.incrementAndGet(bucketIndex);
+		}
+
+		StageSummary computeSummary() {
+
+			final long countValue = count.sum();
+			final double totalMillis = totalNanos.sum() / 1e6;
+			final double meanMillis = countValue > 0 ? totalMillis / countValue : 0;
+			return new StageSummary(countValue, totalMillis, meanMillis,
+					computePercentileMillis(0.50), computePercentileMillis(0.95), computePercentileMillis(0.99),
+					maxNanos.get() / 1e6);
+		}
+
+		private double computePercentileMillis(
+				final double percentile) {
+
+			long bucketCountSum = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				bucketCountSum += bucketCounts.get(i);
+			}
+
+			double percentileMillis = 0;
+			final long rank = (long) Math.ceil(percentile * bucketCountSum);
+			long cumulativeCount = 0;
+			for (int i = 0; i < BUCKET_COUNT && rank > 0; i++) {
+
+				cumulativeCount += bucketCounts.get(i);
+				if (cumulativeCount >= rank) {
+
+					final double bucketUpperBoundMicros = Math.scalb(1.0, i);
+					percentileMillis = Math.min(bucketUpperBoundMicros / 1e3, maxNanos.get() / 1e6);
+					break;
+				}
+			}
+			return percentileMillis;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.personal.img_resizer;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+import com.utils.csv.AbstractCsvWriter;
+
+class ImgResizerStatisticsCsvWriter extends AbstractCsvWriter {
+
+	ImgResizerStatisticsCsvWriter(
+			final String outputPathString) {
+
+		super("statistics CSV", outputPathString);
+	}
+
+	@Override
+	protected void write(
+			final PrintStream printStream) {
+
+		printStream.println("name,count,total_ms,mean_ms,p50_ms,p95_ms,p99_ms,max_ms");
+		for (final ImgResizerStatistics.Stage stage : ImgResizerStatistics.Stage.values()) {
+
+			final ImgResizerStatistics.StageSummary stageSummary = ImgResizerStatistics.computeStageSummary(stage);
+			printStream.println(String.format(Locale.US, "%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+					stage, stageSummary.count(), stageSummary.totalMillis(), stageSummary.meanMillis(),
+					stageSummary.p50Millis(), stageSummary.p95Millis(), stageSummary.p99Millis(),
+					stageSummary.maxMillis()));
+		}
+		for (final ImgResizerStatistics.Counter counter : ImgResizerStatistics.Counter.values()) {
+			printStream.println(counter + "," + ImgResizerStatistics.getCounterValue(counter) + ",,,,,,");
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.personal.img_resizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.utils.log.AbstractMessageConsumer;
+import com.utils.log.MessageConsumer;
+import com.utils.log.MessageLevel;
+
+/**
+ * Collects the messages printed by a thread between {@link #startBuffering()} and {@link #flushBuffer()} and
+ * prints them as one block, so that the output of images processed in parallel does not interleave.
+ */
+class MessageConsumerBuffered extends AbstractMessageConsumer {
+
+	private final MessageConsumer messageConsumer;
+	private final ThreadLocal<List<BufferedMessage>> bufferedMessageListThreadLocal;
+
+	MessageConsumerBuffered(
+			final MessageConsumer messageConsumer) {
+
+		this.messageConsumer = messageConsumer;
+
+		bufferedMessageListThreadLocal = new ThreadLocal<>();
+	}
+
+	void startBuffering() {
+
+		bufferedMessageListThreadLocal.set(new ArrayList<>());
+	}
+
+	void flushBuffer() {
+
+		final List<BufferedMessage> bufferedMessageList = bufferedMessageListThreadLocal.get();
+		bufferedMessageListThreadLocal.remove();
+		if (bufferedMessageList != null) {
+
+			synchronized (this) {
+				for (final BufferedMessage bufferedMessage : bufferedMessageList) {
+					messageConsumer.printMessageSpecific(bufferedMessage.messageLevel(), bufferedMessage.message());
+				}
+			}
+		}
+	}
+
+	@Override
+	public void printMessageSpecific(
+			final MessageLevel messageLevel,
+			final String message) {
+
+		final List<BufferedMessage> bufferedMessageList = bufferedMessageListThreadLocal.get();
+		if (bufferedMessageList != null) {
+			bufferedMessageList.add(new BufferedMessage(messageLevel, message));
+
+		} else {
+			synchronized (this) {
+				messageConsumer.printMessageSpecific(messageLevel, message);
+			}
+		}
+	}
+
+	private record BufferedMessage(
+			MessageLevel messageLevel,
+			String message) {
+	}
+}
@@ -1,18 +1,11 @@
 package com.personal.img_resizer;
 
-import java.io.File;
-import java.io.InputStream;
-import java.nio.charset.Charset;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
-import com.utils.io.PathUtils;
-import com.utils.io.WriterUtils;
-import com.utils.io.processes.InputStreamReaderThread;
-import com.utils.io.processes.ReadBytesHandlerLinesCollect;
 import com.utils.log.Logger;
 import com.utils.string.StrUtils;
 
@@ -33,7 +26,7 @@ class MetadataExporter {
 
 	private int imageWidth;
 	private int imageHeight;
-	private String metadataXmlPathString;
+	private String metadataXmlContent;
 	private boolean success;
 
 	MetadataExporter(
@@ -50,22 +43,11 @@ class MetadataExporter {
 			Logger.printProgress("exporting metadata of file:");
 			Logger.printLine(filePathString);
 
-			final String folderPathString = PathUtils.computeParentPath(filePathString);
-			final Process process = new ProcessBuilder()
-					.command("exiftool", "-X", filePathString)
-					.directory(new File(folderPathString))
-					.redirectError(ProcessBuilder.Redirect.INHERIT)
-					.start();
+			final ExifToolSession exifToolSession = ExifToolSession.getInstance();
+			final ExifToolSession.ExifToolOutput exifToolOutput =
+					exifToolSession.execute("-X", filePathString);
 
-			final InputStream inputStream = process.getInputStream();
-			final ReadBytesHandlerLinesCollect readBytesHandlerLinesCollect =
-					new ReadBytesHandlerLinesCollect();
-			new InputStreamReaderThread("export metadata", inputStream, Charset.defaultCharset(),
-					readBytesHandlerLinesCollect).start();
-
-			final int exitCode = process.waitFor();
-
-			final List<String> lineList = readBytesHandlerLinesCollect.getLineList();
+			final List<String> lineList = exifToolOutput.lineList();
 			for (final String line : lineList) {
 
 				final String trimmedLine = line.trim();
@@ -105,11 +87,9 @@ class MetadataExporter {
 			Logger.printLine("image width: " + StrUtils.positiveIntToString(imageWidth, true));
 			Logger.printLine("image height: " + StrUtils.positiveIntToString(imageHeight, true));
 
-			metadataXmlPathString = filePathString + ".xml";
-			final String metadataXmlContent = StringUtils.join(lineList, System.lineSeparator());
-			WriterUtils.stringToFile(metadataXmlContent, Charset.defaultCharset(), metadataXmlPathString);
+			metadataXmlContent = StringUtils.join(lineList, System.lineSeparator());
 
-			success = exitCode == 0;
+			success = exifToolOutput.status() == 0;
 
 		} catch (final Exception exc) {
 			Logger.printError("failed to export metadata for file:" +
@@ -126,8 +106,8 @@ class MetadataExporter {
 		return imageHeight;
 	}
 
-	String getMetadataXmlPathString() {
-		return metadataXmlPathString;
+	String getMetadataXmlContent() {
+		return metadataXmlContent;
 	}
 
 	boolean isSuccess() {
@@ -1,46 +1,54 @@
 package com.personal.img_resizer;
 
-import java.io.File;
+import java.nio.charset.StandardCharsets;
 
-import com.utils.io.PathUtils;
+import com.utils.io.WriterUtils;
+import com.utils.io.file_deleters.FactoryFileDeleter;
 import com.utils.log.Logger;
 
 class MetadataImporter {
 
 	private final String outputFilePathString;
-	private final String metadataXmlPathString;
+	private final String metadataXmlContent;
 
 	private boolean success;
 
 	MetadataImporter(
 			final String outputFilePathString,
-			final String metadataXmlPathString) {
+			final String metadataXmlContent) {
 
 		this.outputFilePathString = outputFilePathString;
-		this.metadataXmlPathString = metadataXmlPathString;
+		this.metadataXmlContent = metadataXmlContent;
 	}
 
+	/**
+	 * The metadata is handed over to exiftool through an XML file in the scratch folder, which is deleted right
+	 * after the import.
+	 */
 	void work() {
 
+		String metadataXmlPathString = null;
 		try {
-			Logger.printProgress("importing metadata from file:");
-			Logger.printLine(metadataXmlPathString);
-
-			final String folderPathString = PathUtils.computeParentPath(outputFilePathString);
-			final Process process = new ProcessBuilder()
-					.command("exiftool", "-overwrite_original",
-							"-tagsfromfile", metadataXmlPathString, outputFilePathString)
-					.directory(new File(folderPathString))
-					.redirectInput(ProcessBuilder.Redirect.INHERIT)
-					.redirectError(ProcessBuilder.Redirect.INHERIT)
-					.start();
-			final int exitCode = process.waitFor();
-			success = exitCode == 0;
+			Logger.printProgress("importing metadata into file:");
+			Logger.printLine(outputFilePathString);
+
+			metadataXmlPathString = ScratchFolder.createScratchFilePathString(outputFilePathString, ".xml");
+			WriterUtils.stringToFile(metadataXmlContent, StandardCharsets.UTF_8, metadataXmlPathString);
+
+			final ExifToolSession exifToolSession = ExifToolSession.getInstance();
+			final ExifToolSession.ExifToolOutput exifToolOutput = exifToolSession.execute(
+					"-overwrite_original", "-tagsfromfile", metadataXmlPathString, outputFilePathString);
+			success = exifToolOutput.status() == 0;
 
 		} catch (final Exception exc) {
-			Logger.printError("failed to import metadata from file:" +
-					System.lineSeparator() + metadataXmlPathString);
+			Logger.printError("failed to import metadata into file:" +
+					System.lineSeparator() + outputFilePathString);
 			Logger.printException(exc);
+
+		} finally {
+			if (metadataXmlPathString != null) {
+				FactoryFileDeleter.getInstance().deleteFile(metadataXmlPathString, false, false);
+			}
 		}
 	}
 
@@ -0,0 +1,186 @@
+package com.personal.img_resizer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.utils.io.file_copiers.FactoryFileCopier;
+import com.utils.io.file_deleters.FactoryFileDeleter;
+import com.utils.io.folder_creators.FactoryFolderCreator;
+import com.utils.log.Logger;
+
+/**
+ * Creates the output files that are identical to their input files. Depending on the output link type, they are
+ * created as hard links or as reflinks, sharing the data of the input files. A file that cannot be linked is copied
+ * instead. Only the failures that mean that the file system cannot create the links at all stop the link type from
+ * being tried for the rest of the run; after any other failure, the next files are linked again.
+ */
+final class OutputFileLinker {
+
+	/**
+	 * The messages of EXDEV, EPERM and EOPNOTSUPP, which the JDK reports as the reason of a
+	 * {@link FileSystemException}.
+	 */
+	private static final List<String> LINK_UNSUPPORTED_REASON_LIST = List.of(
+			"Invalid cross-device link", "Operation not permitted", "Operation not supported");
+
+	private static final AtomicBoolean LINK_UNSUPPORTED = new AtomicBoolean(false);
+	private static final AtomicBoolean REFLINK_CREATED = new AtomicBoolean(false);
+
+	private enum LinkResult {
+		CREATED,
+		FAILED,
+		UNSUPPORTED
+	}
+
+	private OutputFileLinker() {
+	}
+
+	static OutputLinkType computeOutputLinkType(
+			final String outputLinkTypeString) {
+
+		OutputLinkType outputLinkType = null;
+		for (final OutputLinkType currentOutputLinkType : OutputLinkType.values()) {
+
+			if (currentOutputLinkType.name().equalsIgnoreCase(outputLinkTypeString)) {
+				outputLinkType = currentOutputLinkType;
+				break;
+			}
+		}
+		return outputLinkType;
+	}
+
+	static boolean createOutputFile(
+			final String filePathString,
+			final String outputFilePathString,
+			final OutputLinkType outputLinkType,
+			final boolean verboseProgress) {
+
+		boolean success = false;
+		if (outputLinkType != OutputLinkType.COPY && !LINK_UNSUPPORTED.get()) {
+
+			if (verboseProgress) {
+
+				Logger.printProgress("linking file:");
+				Logger.printLine(filePathString);
+				Logger.printLine("to:");
+				Logger.printLine(outputFilePathString);
+			}
+
+			// an existing output file could be a hard link to the input file, so it is never written over
+			final boolean keepGoing = FactoryFileDeleter.getInstance()
+					.deleteFile(outputFilePathString, false, true) &&
+					FactoryFolderCreator.getInstance()
+							.createParentDirectories(outputFilePathString, false, true);
+			if (keepGoing) {
+
+				final LinkResult linkResult;
+				if (outputLinkType == OutputLinkType.HARDLINK) {
+					linkResult = createHardLink(filePathString, outputFilePathString, verboseProgress);
+				} else {
+					linkResult = createReflink(filePathString, outputFilePathString, verboseProgress);
+				}
+				success = linkResult == LinkResult.CREATED;
+				if (linkResult == LinkResult.UNSUPPORTED && !LINK_UNSUPPORTED.getAndSet(true)) {
+					Logger.printWarning("the file system does not support " +
+							outputLinkType.name().toLowerCase(Locale.US) +
+							" output files, copying them instead");
+				}
+			}
+		}
+
+		if (!success) {
+			success = FactoryFileCopier.getInstance()
+					.copyFile(filePathString, outputFilePathString, true, verboseProgress, true);
+		}
+		return success;
+	}
+
+	private static LinkResult createHardLink(
+			final String filePathString,
+			final String outputFilePathString,
+			final boolean verboseProgress) {
+
+		LinkResult linkResult;
+		try {
+			final Path filePath = Paths.get(filePathString);
+			final Path outputFilePath = Paths.get(outputFilePathString);
+			Files.createLink(outputFilePath, filePath);
+			linkResult = LinkResult.CREATED;
+
+		} catch (final UnsupportedOperationException exc) {
+			linkResult = LinkResult.UNSUPPORTED;
+			printLinkFailure("hard link", filePathString, exc.toString(), verboseProgress);
+
+		} catch (final Exception exc) {
+			if (exc instanceof final FileSystemException fileSystemException &&
+					LINK_UNSUPPORTED_REASON_LIST.contains(fileSystemException.getReason())) {
+				linkResult = LinkResult.UNSUPPORTED;
+			} else {
+				linkResult = LinkResult.FAILED;
+			}
+			printLinkFailure("hard link", filePathString, exc.toString(), verboseProgress);
+		}
+		return linkResult;
+	}
+
+	/**
+	 * The JDK has no access to the clone ioctl of the file systems that support copy-on-write, so the reflink is
+	 * created by "cp", which fails if the file system cannot clone the file. Since the reason of the failure is only
+	 * known from the message of "cp", the file system is considered unable to clone only if no reflink was created
+	 * before.
+	 */
+	private static LinkResult createReflink(
+			final String filePathString,
+			final String outputFilePathString,
+			final boolean verboseProgress) {
+
+		LinkResult linkResult = LinkResult.FAILED;
+		try {
+			final Process process = new ProcessBuilder()
+					.command("cp", "--reflink=always", "--preserve=timestamps",
+							filePathString, outputFilePathString)
+					.redirectErrorStream(true)
+					.start();
+			final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+			final int exitCode = process.waitFor();
+			if (exitCode == 0) {
+
+				REFLINK_CREATED.set(true);
+				linkResult = LinkResult.CREATED;
+
+			} else {
+				if (!REFLINK_CREATED.get()) {
+					linkResult = LinkResult.UNSUPPORTED;
+				}
+				printLinkFailure("reflink", filePathString,
+						"cp exited with code " + exitCode + ": " + output.strip(), verboseProgress);
+			}
+
+		} catch (final Exception exc) {
+			if (!REFLINK_CREATED.get()) {
+				linkResult = LinkResult.UNSUPPORTED;
+			}
+			printLinkFailure("reflink", filePathString, exc.toString(), verboseProgress);
+		}
+		return linkResult;
+	}
+
+	private static void printLinkFailure(
+			final String linkTypeName,
+			final String filePathString,
+			final String cause,
+			final boolean verboseProgress) {
+
+		if (verboseProgress) {
+			Logger.printWarning("failed to create " + linkTypeName + " to file:" +
+					System.lineSeparator() + filePathString +
+					System.lineSeparator() + cause);
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package com.personal.img_resizer;
+
+enum OutputLinkType {
+
+	COPY,
+	HARDLINK,
+	REFLINK
+}
@@ -0,0 +1,61 @@
+package com.personal.img_resizer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.utils.io.PathUtils;
+import com.utils.io.folder_deleters.FactoryFolderDeleter;
+import com.utils.log.Logger;
+
+/**
+ * Folder in the temporary folder of the system, which holds the intermediate files of a run, so that nothing is
+ * written next to the input files. It is created on first use and deleted at the end of the run.
+ */
+final class ScratchFolder {
+
+	private static final AtomicLong SCRATCH_FILE_COUNTER = new AtomicLong();
+
+	private static String scratchFolderPathString;
+
+	private ScratchFolder() {
+	}
+
+	/**
+	 * @return a path in the scratch folder which is unique for this run and keeps the name of the given file
+	 */
+	static String createScratchFilePathString(
+			final String filePathString,
+			final String extension) throws Exception {
+
+		final String folderPathString = getScratchFolderPathString();
+		final String fileNameWoExt = PathUtils.computeFileNameWoExt(filePathString);
+		final long scratchFileIndex = SCRATCH_FILE_COUNTER.incrementAndGet();
+		return PathUtils.computePath(folderPathString, scratchFileIndex + "_" + fileNameWoExt + extension);
+	}
+
+	private static synchronized String getScratchFolderPathString() throws Exception {
+
+		if (scratchFolderPathString == null) {
+
+			final Path scratchFolderPath = Files.createTempDirectory("img_resizer_");
+			scratchFolderPathString = scratchFolderPath.toString();
+		}
+		return scratchFolderPathString;
+	}
+
+	static synchronized void delete(
+			final boolean verbose) {
+
+		if (scratchFolderPathString != null) {
+
+			if (verbose) {
+				Logger.printLine("keeping scratch folder:");
+				Logger.printLine(scratchFolderPathString);
+			} else {
+				FactoryFolderDeleter.getInstance().deleteFolder(scratchFolderPathString, false, true);
+			}
+			scratchFolderPathString = null;
+		}
+	}
+}
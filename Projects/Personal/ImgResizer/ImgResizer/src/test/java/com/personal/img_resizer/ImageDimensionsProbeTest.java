@@ -0,0 +1,166 @@
+package com.personal.img_resizer;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageDimensionsProbeTest {
+
+	@TempDir
+	Path tmpFolderPath;
+
+	@Test
+	void testProbeImageDimensions() throws Exception {
+
+		final BufferedImage image = new BufferedImage(321, 123, BufferedImage.TYPE_INT_RGB);
+
+		final String jpgFilePathString = tmpFolderPath.resolve("image.jpg").toString();
+		ImageIO.write(image, "jpg", new File(jpgFilePathString));
+		final ImageDimensions jpgImageDimensions =
+				ImageDimensionsProbe.probeImageDimensions(jpgFilePathString, ImageType.JPG);
+		Assertions.assertEquals(new ImageDimensions(321, 123), jpgImageDimensions);
+
+		final String pngFilePathString = tmpFolderPath.resolve("image.png").toString();
+		ImageIO.write(image, "png", new File(pngFilePathString));
+		final ImageDimensions pngImageDimensions =
+				ImageDimensionsProbe.probeImageDimensions(pngFilePathString, ImageType.PNG);
+		Assertions.assertEquals(new ImageDimensions(321, 123), pngImageDimensions);
+
+		final ImageDimensions invalidImageDimensions =
+				ImageDimensionsProbe.probeImageDimensions(pngFilePathString, ImageType.WEBP);
+		Assertions.assertNull(invalidImageDimensions);
+	}
+
+	@Test
+	void testProbeWebpVp8Dimensions() throws Exception {
+
+		final byte[] headerByteArray = {
+				'R', 'I', 'F', 'F', 0x16, 0x00, 0x00, 0x00, 'W', 'E', 'B', 'P',
+				'V', 'P', '8', ' ', 0x0A, 0x00, 0x00, 0x00,
+				// frame tag and start code
+				0x00, 0x00, 0x00, (byte) 0x9D, 0x01, 0x2A,
+				// width 321 with a horizontal scale of 1, height 123
+				0x41, 0x41, 0x7B, 0x00
+		};
+		final ImageDimensions imageDimensions = probeImageDimensions(headerByteArray, "image.webp", ImageType.WEBP);
+		Assertions.assertEquals(new ImageDimensions(321, 123), imageDimensions);
+	}
+
+	@Test
+	void testProbeWebpVp8lDimensions() throws Exception {
+
+		final byte[] headerByteArray = {
+				'R', 'I', 'F', 'F', 0x16, 0x00, 0x00, 0x00, 'W', 'E', 'B', 'P',
+				'V', 'P', '8', 'L', 0x0A, 0x00, 0x00, 0x00,
+				// signature
+				0x2F,
+				// 14 bits of width - 1 = 320, 14 bits of height - 1 = 122
+				0x40, (byte) 0x81, 0x1E, 0x00,
+				0x00, 0x00, 0x00, 0x00, 0x00
+		};
+		final ImageDimensions imageDimensions = probeImageDimensions(headerByteArray, "image.webp", ImageType.WEBP);
+		Assertions.assertEquals(new ImageDimensions(321, 123), imageDimensions);
+	}
+
+	@Test
+	void testProbeWebpVp8xDimensions() throws Exception {
+
+		final byte[] headerByteArray = {
+				'R', 'I', 'F', 'F', 0x16, 0x00, 0x00, 0x00, 'W', 'E', 'B', 'P',
+				'V', 'P', '8', 'X', 0x0A, 0x00, 0x00, 0x00,
+				// flags and reserved bytes
+				0x10, 0x00, 0x00, 0x00,
+				// 24 bits of canvas width - 1 = 320, 24 bits of canvas height - 1 = 122
+				0x40, 0x01, 0x00, 0x7A, 0x00, 0x00
+		};
+		final ImageDimensions imageDimensions = probeImageDimensions(headerByteArray, "image.webp", ImageType.WEBP);
+		Assertions.assertEquals(new ImageDimensions(321, 123), imageDimensions);
+	}
+
+	@Test
+	void testProbeHeicDimensions() throws Exception {
+
+		final byte[] headerByteArray = createHeicHeader(false);
+		final ImageDimensions imageDimensions = probeImageDimensions(headerByteArray, "image.heic", ImageType.HEIC);
+		Assertions.assertEquals(new ImageDimensions(4032, 3024), imageDimensions);
+	}
+
+	@Test
+	void testProbeHeicRotatedDimensions() throws Exception {
+
+		final byte[] headerByteArray = createHeicHeader(true);
+		final ImageDimensions imageDimensions = probeImageDimensions(headerByteArray, "image.heic", ImageType.HEIC);
+		Assertions.assertEquals(new ImageDimensions(3024, 4032), imageDimensions);
+	}
+
+	/**
+	 * The header holds the "ispe" properties of a thumbnail and of the primary image and, if rotated, an "irot"
+	 * property of 90 degrees. The "mdat" box with the image data is not needed.
+	 */
+	private static byte[] createHeicHeader(
+			final boolean rotated) throws Exception {
+
+		final byte[] ftypBoxByteArray = createBox("ftyp", "heic".getBytes(StandardCharsets.US_ASCII),
+				new byte[4], "mif1heic".getBytes(StandardCharsets.US_ASCII));
+		final byte[] thumbnailIspeBoxByteArray = createIspeBox(320, 240);
+		final byte[] primaryIspeBoxByteArray = createIspeBox(4032, 3024);
+		final byte[] ipcoBoxByteArray;
+		if (rotated) {
+			ipcoBoxByteArray = createBox("ipco", thumbnailIspeBoxByteArray, primaryIspeBoxByteArray,
+					createBox("irot", new byte[] { 0x01 }));
+		} else {
+			ipcoBoxByteArray = createBox("ipco", thumbnailIspeBoxByteArray, primaryIspeBoxByteArray);
+		}
+		final byte[] metaBoxByteArray = createBox("meta", new byte[4], createBox("iprp", ipcoBoxByteArray));
+
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		byteArrayOutputStream.write(ftypBoxByteArray);
+		byteArrayOutputStream.write(metaBoxByteArray);
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static byte[] createIspeBox(
+			final int width,
+			final int height) throws Exception {
+
+		final byte[] contentByteArray = ByteBuffer.allocate(12).putInt(0).putInt(width).putInt(height).array();
+		return createBox("ispe", contentByteArray);
+	}
+
+	private static byte[] createBox(
+			final String type,
+			final byte[]... contentByteArrays) throws Exception {
+
+		final ByteArrayOutputStream contentByteArrayOutputStream = new ByteArrayOutputStream();
+		for (final byte[] contentByteArray : contentByteArrays) {
+			contentByteArrayOutputStream.write(contentByteArray);
+		}
+		final byte[] contentByteArray = contentByteArrayOutputStream.toByteArray();
+
+		return ByteBuffer.allocate(8 + contentByteArray.length)
+				.putInt(8 + contentByteArray.length)
+				.put(type.getBytes(StandardCharsets.US_ASCII))
+				.put(contentByteArray)
+				.array();
+	}
+
+	private ImageDimensions probeImageDimensions(
+			final byte[] headerByteArray,
+			final String fileName,
+			final ImageType imageType) throws Exception {
+
+		final Path filePath = tmpFolderPath.resolve(fileName);
+		Files.write(filePath, headerByteArray);
+		return ImageDimensionsProbe.probeImageDimensions(filePath.toString(), imageType);
+	}
+}
@@ -0,0 +1,95 @@
+package com.personal.img_resizer;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import com.utils.io.PathUtils;
+import com.utils.io.folder_deleters.FactoryFolderDeleter;
+import com.utils.log.AbstractMessageConsumer;
+import com.utils.log.Logger;
+import com.utils.log.MessageLevel;
+
+/**
+ * Synthetic images used by the benchmarks. They are generated from a fixed seed, so every run measures the same
+ * content: a smooth gradient with some noise on top, which compresses roughly like a photo.
+ */
+final class BenchmarkImageCorpus {
+
+	private static final long SEED = 0x1A6E5L;
+
+	private BenchmarkImageCorpus() {
+	}
+
+	static String createFolder() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("img_resizer_benchmarks_");
+		return folderPath.toString();
+	}
+
+	static void deleteFolder(
+			final String folderPathString) {
+
+		FactoryFolderDeleter.getInstance().deleteFolder(folderPathString, false, true);
+	}
+
+	/**
+	 * @param size
+	 *            the dimensions of the image, as "widthxheight"
+	 * @return the path of the created image file
+	 */
+	static String createImage(
+			final String folderPathString,
+			final ImageType imageType,
+			final String size) throws Exception {
+
+		final String[] sizeParts = size.split("x", 2);
+		final int width = Integer.parseInt(sizeParts[0]);
+		final int height = Integer.parseInt(sizeParts[1]);
+
+		final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		final Random random = new Random(SEED);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+
+				final int red = (x * 255 / width + random.nextInt(16)) & 0xFF;
+				final int green = (y * 255 / height + random.nextInt(16)) & 0xFF;
+				final int blue = ((x + y) * 255 / (width + height) + random.nextInt(16)) & 0xFF;
+				image.setRGB(x, y, red << 16 | green << 8 | blue);
+			}
+		}
+
+		final String extension = imageType.name().toLowerCase(Locale.US);
+		final String filePathString = PathUtils.computePath(folderPathString, size + "." + extension);
+		if (imageType == ImageType.JPG) {
+			ImageResizerJava.writeJpg(image, filePathString);
+		} else {
+			ImageIO.write(image, extension, new File(filePathString));
+		}
+		return filePathString;
+	}
+
+	/**
+	 * Keeps only the errors, so that the progress messages of the measured code do not end up in the measurements.
+	 */
+	static void configureLogger() {
+
+		Logger.setMessageConsumer(new AbstractMessageConsumer() {
+
+			@Override
+			public void printMessageSpecific(
+					final MessageLevel messageLevel,
+					final String message) {
+
+				if (messageLevel == MessageLevel.ERROR || messageLevel == MessageLevel.EXCEPTION) {
+					System.err.println(message);
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,109 @@
+package com.personal.img_resizer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.utils.io.PathUtils;
+import com.utils.io.file_copiers.FactoryFileCopier;
+
+/**
+ * Benchmarks the stages of the resizing of one image, for every input type and size of the corpus and for every
+ * resizer type. The JPG conversion needs ImageMagick and the FFMPEG resizer needs ffmpeg in the PATH; the inputs
+ * that the selected resizer cannot decode are resized with ImageMagick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageStagesBenchmark {
+
+	private static final int LENGTH = 1080;
+
+	@Param({ "JPG", "PNG" })
+	private String imageTypeName;
+
+	@Param({ "800x600", "4000x3000" })
+	private String size;
+
+	@Param({ "JAVA", "FFMPEG" })
+	private String imageResizerTypeName;
+
+	private ImageType imageType;
+	private String folderPathString;
+	private String filePathString;
+	private String outputFilePathString;
+	private ImageDimensions imageDimensions;
+	private ImageResizer imageResizer;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+
+		BenchmarkImageCorpus.configureLogger();
+
+		imageType = ImageType.valueOf(imageTypeName);
+
+		folderPathString = BenchmarkImageCorpus.createFolder();
+		filePathString = BenchmarkImageCorpus.createImage(folderPathString, imageType, size);
+		outputFilePathString = PathUtils.computePath(folderPathString, "output.jpg");
+		imageDimensions = ImageDimensionsProbe.probeImageDimensions(filePathString, imageType);
+		final ImageResizerType imageResizerType = ImageResizerType.valueOf(imageResizerTypeName);
+		imageResizer = FactoryImageResizer.getInstance(imageResizerType, imageType);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+
+		BenchmarkImageCorpus.deleteFolder(folderPathString);
+	}
+
+	@Benchmark
+	public ImageType computeImageType() {
+
+		return FactoryImageType.computeImageType(filePathString);
+	}
+
+	@Benchmark
+	public ImageDimensions probeImageDimensions() {
+
+		return ImageDimensionsProbe.probeImageDimensions(filePathString, imageType);
+	}
+
+	/**
+	 * Converts the input to JPG at full size with ImageMagick, which is what happens to the non-JPG inputs that are
+	 * already small enough.
+	 */
+	@Benchmark
+	public boolean convertImageToJpg() {
+
+		return AppStartImgResizer.convertImageToJpg(filePathString, outputFilePathString);
+	}
+
+	@Benchmark
+	public boolean resizeImage() {
+
+		return imageResizer.resizeImage(filePathString, outputFilePathString,
+				imageDimensions.width(), imageDimensions.height(), LENGTH, false);
+	}
+
+	@Benchmark
+	public boolean copyFile() {
+
+		return FactoryFileCopier.getInstance()
+				.copyFile(filePathString, outputFilePathString, true, false, true);
+	}
+}
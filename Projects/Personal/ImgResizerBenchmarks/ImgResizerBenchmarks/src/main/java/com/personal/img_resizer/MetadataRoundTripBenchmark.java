@@ -0,0 +1,76 @@
+package com.personal.img_resizer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.utils.io.PathUtils;
+import com.utils.io.file_copiers.FactoryFileCopier;
+
+/**
+ * Benchmarks the export of the metadata of an image and its import into the output image. Needs exiftool in the
+ * PATH.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataRoundTripBenchmark {
+
+	@Param({ "JPG", "PNG" })
+	private String imageTypeName;
+
+	private ImageType imageType;
+	private String folderPathString;
+	private String filePathString;
+	private String outputFilePathString;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+
+		BenchmarkImageCorpus.configureLogger();
+
+		imageType = ImageType.valueOf(imageTypeName);
+
+		folderPathString = BenchmarkImageCorpus.createFolder();
+		filePathString = BenchmarkImageCorpus.createImage(folderPathString, imageType, "800x600");
+		final String jpgFilePathString =
+				BenchmarkImageCorpus.createImage(folderPathString, ImageType.JPG, "640x480");
+		outputFilePathString = PathUtils.computePath(folderPathString, "output.jpg");
+		FactoryFileCopier.getInstance().copyFile(jpgFilePathString, outputFilePathString, true, false, true);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+
+		ExifToolSession.closeAll();
+		ScratchFolder.delete(false);
+		BenchmarkImageCorpus.deleteFolder(folderPathString);
+	}
+
+	@Benchmark
+	public boolean exportAndImportMetadata() {
+
+		final MetadataExporter metadataExporter = new MetadataExporter(filePathString, imageType);
+		metadataExporter.work();
+
+		final MetadataImporter metadataImporter =
+				new MetadataImporter(outputFilePathString, metadataExporter.getMetadataXmlContent());
+		metadataImporter.work();
+		return metadataExporter.isSuccess() && metadataImporter.isSuccess();
+	}
+}
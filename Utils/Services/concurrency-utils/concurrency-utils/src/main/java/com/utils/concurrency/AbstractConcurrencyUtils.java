@@ -1,32 +1,371 @@
 package com.utils.concurrency;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import com.utils.log.Logger;
 import com.utils.string.StrUtils;
 
 public abstract class AbstractConcurrencyUtils implements ConcurrencyUtils {
 
+	private static final int IN_FLIGHT_LIMIT_UNLIMITED_THREADS = 1024;
+
 	private final int threadCount;
+	private final ExecutorType executorType;
 
 	protected AbstractConcurrencyUtils(
-			final int threadCount) {
+			final int threadCount,
+			final ExecutorType executorType) {
 
 		this.threadCount = threadCount;
+		this.executorType = executorType;
+	}
+
+	@Override
+	public void executeMultiThreadedTask(
+			final Stream<Runnable> runnableStream,
+			final TaskCompletionListener taskCompletionListener) {
+
+		printInitMessages();
+
+		final Spliterator<Runnable> runnableSpliterator = runnableStream.spliterator();
+		final TaskCompletionListener progressTaskCompletionListener = createProgressTaskCompletionListener(
+				taskCompletionListener, runnableSpliterator.getExactSizeIfKnown());
+
+		final ExecutorService executorService = createExecutorService();
+		final Semaphore semaphore = createConcurrencyLimitSemaphore();
+		final int inFlightLimit = computeInFlightLimit();
+		final AtomicLong completedTaskCount = new AtomicLong(0);
+
+		final List<Future<?>> futureList = new ArrayList<>();
+		runnableSpliterator.forEachRemaining(runnable -> {
+
+			waitForInFlightLimit(futureList, inFlightLimit);
+
+			final Runnable reportingRunnable = () -> {
+
+				Throwable throwable = null;
+				try {
+					runnable.run();
+
+				} catch (final RuntimeException | Error exc) {
+					throwable = exc;
+					throw exc;
+
+				} finally {
+					progressTaskCompletionListener.taskCompleted(completedTaskCount.incrementAndGet(), throwable);
+				}
+			};
+			final Runnable limitedRunnable = acquireConcurrencyLimit(reportingRunnable, semaphore);
+			submitStreamedCallable(limitedRunnable, executorService, futureList);
+		});
+
+		for (final Future<?> future : futureList) {
+			futureGet(future);
+		}
+
+		shutdownExecutorService(executorService);
+	}
+
+	@Override
+	public <T> boolean executeMultiThreadedCallables(
+			final List<Callable<T>> callableList,
+			final FailurePolicy failurePolicy,
+			final Consumer<T> resultConsumer) {
+
+		boolean success = true;
+		if (!callableList.isEmpty()) {
+
+			printInitMessages();
+
+			final TaskCompletionListener progressTaskCompletionListener = createProgressTaskCompletionListener(
+					(completedTaskCount, throwable) -> {
+					}, callableList.size());
+
+			final ExecutorService executorService = createExecutorService();
+			final Semaphore semaphore = createConcurrencyLimitSemaphore();
+			final CompletionService<T> completionService = new ExecutorCompletionService<>(executorService);
+
+			final List<Future<T>> futureList = new ArrayList<>();
+			long completedTaskCount = 0;
+			for (final Callable<T> callable : callableList) {
+
+				if (!success && failurePolicy == FailurePolicy.FAIL_FAST) {
+					break;
+				}
+
+				final Callable<T> timedCallable = createTimedCallable(callable);
+				final Callable<T> limitedCallable = acquireConcurrencyLimit(timedCallable, semaphore);
+				final Future<T> future = completionService.submit(limitedCallable);
+				futureList.add(future);
+
+				Future<T> completedFuture;
+				while ((completedFuture = completionService.poll()) != null) {
+
+					completedTaskCount++;
+					final boolean taskSuccess = handleCompletedFuture(completedFuture, resultConsumer,
+							progressTaskCompletionListener, completedTaskCount);
+					success = handleTaskSuccess(taskSuccess, success, failurePolicy, futureList);
+				}
+			}
+
+			while (completedTaskCount < futureList.size()) {
+
+				final Future<T> completedFuture;
+				try {
+					completedFuture = completionService.take();
+
+				} catch (final InterruptedException exc) {
+					Thread.currentThread().interrupt();
+					cancelFutures(futureList);
+					success = false;
+					break;
+				}
+
+				completedTaskCount++;
+				final boolean taskSuccess = handleCompletedFuture(completedFuture, resultConsumer,
+						progressTaskCompletionListener, completedTaskCount);
+				success = handleTaskSuccess(taskSuccess, success, failurePolicy, futureList);
+			}
+
+			shutdownExecutorService(executorService);
+		}
+		return success;
+	}
+
+	private static <T> boolean handleCompletedFuture(
+			final Future<T> completedFuture,
+			final Consumer<T> resultConsumer,
+			final TaskCompletionListener progressTaskCompletionListener,
+			final long completedTaskCount) {
+
+		boolean taskSuccess = false;
+		Throwable throwable = null;
+		try {
+			final T result = completedFuture.get();
+			resultConsumer.accept(result);
+			taskSuccess = true;
+
+		} catch (final CancellationException exc) {
+			throwable = exc;
+
+		} catch (final ExecutionException exc) {
+			throwable = exc.getCause();
+			Logger.printException(throwable);
+
+		} catch (final InterruptedException exc) {
+			Thread.currentThread().interrupt();
+			throwable = exc;
+		}
+		progressTaskCompletionListener.taskCompleted(completedTaskCount, throwable);
+		return taskSuccess;
+	}
+
+	private static <T> boolean handleTaskSuccess(
+			final boolean taskSuccess,
+			final boolean success,
+			final FailurePolicy failurePolicy,
+			final List<Future<T>> futureList) {
+
+		if (!taskSuccess && success && failurePolicy == FailurePolicy.FAIL_FAST) {
+
+			Logger.printError("a task failed, cancelling the remaining tasks");
+			cancelFutures(futureList);
+		}
+		return success && taskSuccess;
+	}
+
+	private static <T> void cancelFutures(
+			final List<Future<T>> futureList) {
+
+		for (final Future<T> future : futureList) {
+			future.cancel(true);
+		}
+	}
+
+	/**
+	 * Drops the futures of the completed tasks and, if the window is still full, waits for the oldest task.
+	 */
+	private void waitForInFlightLimit(
+			final List<Future<?>> futureList,
+			final int inFlightLimit) {
+
+		if (futureList.size() >= inFlightLimit) {
+
+			futureList.removeIf(Future::isDone);
+			if (futureList.size() >= inFlightLimit) {
+
+				final Future<?> oldestFuture = futureList.removeFirst();
+				futureGet(oldestFuture);
+				futureList.removeIf(Future::isDone);
+			}
+		}
+	}
+
+	private int computeInFlightLimit() {
+
+		final int inFlightLimit;
+		if (threadCount > 0) {
+			inFlightLimit = 2 * threadCount;
+		} else {
+			inFlightLimit = IN_FLIGHT_LIMIT_UNLIMITED_THREADS;
+		}
+		return inFlightLimit;
+	}
+
+	/**
+	 * @param runnableCount
+	 *            the number of tasks, or -1 if it is not known in advance
+	 */
+	protected TaskCompletionListener createProgressTaskCompletionListener(
+			final TaskCompletionListener taskCompletionListener,
+			final long runnableCount) {
+
+		return taskCompletionListener;
+	}
+
+	/**
+	 * Applies the timeout of the timed variants to a callable submitted through
+	 * {@link #executeMultiThreadedCallables(List, FailurePolicy, Consumer)}.
+	 */
+	protected <T> Callable<T> createTimedCallable(
+			final Callable<T> callable) {
+
+		return callable;
 	}
 
+	protected abstract void submitStreamedCallable(
+			Runnable runnable,
+			ExecutorService executorService,
+			List<Future<?>> futureList);
+
 	protected abstract void printInitMessages();
 
 	protected abstract void futureGet(
 			Future<?> future);
 
+	protected static void shutdownExecutorService(
+			final ExecutorService executorService) {
+
+		executorService.shutdown();
+
+		boolean awaitTerminationSuccess = false;
+		try {
+			awaitTerminationSuccess = executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+		} catch (final Exception exc) {
+			Logger.printException(exc);
+
+		} finally {
+			if (!awaitTerminationSuccess) {
+				Logger.printError("failed to await termination of multi-threaded tasks");
+			}
+		}
+	}
+
+	protected ExecutorService createExecutorService() {
+
+		final ExecutorService executorService;
+		if (executorType == ExecutorType.VIRTUAL_THREADS) {
+			executorService = Executors.newVirtualThreadPerTaskExecutor();
+		} else if (threadCount <= 0) {
+			executorService = Executors.newCachedThreadPool();
+		} else {
+			executorService = Executors.newFixedThreadPool(threadCount);
+		}
+		return executorService;
+	}
+
+	/**
+	 * With virtual threads, the number of tasks that run at the same time is limited by a semaphore instead of by
+	 * the size of the pool.
+	 *
+	 * @return null if the number of tasks that run at the same time does not need to be limited
+	 */
+	protected Semaphore createConcurrencyLimitSemaphore() {
+
+		Semaphore semaphore = null;
+		if (executorType == ExecutorType.VIRTUAL_THREADS && threadCount > 0) {
+			semaphore = new Semaphore(threadCount);
+		}
+		return semaphore;
+	}
+
+	/**
+	 * Waits for a permit of the semaphore before the task is submitted, so that the tasks waiting for a permit do not
+	 * pile up in the executor, and releases it when the task is done.
+	 */
+	protected static Runnable acquireConcurrencyLimit(
+			final Runnable runnable,
+			final Semaphore semaphore) {
+
+		final Runnable limitedRunnable;
+		if (semaphore != null) {
+
+			semaphore.acquireUninterruptibly();
+			limitedRunnable = () -> {
+
+				try {
+					runnable.run();
+				} finally {
+					semaphore.release();
+				}
+			};
+
+		} else {
+			limitedRunnable = runnable;
+		}
+		return limitedRunnable;
+	}
+
+	protected static <T> Callable<T> acquireConcurrencyLimit(
+			final Callable<T> callable,
+			final Semaphore semaphore) {
+
+		final Callable<T> limitedCallable;
+		if (semaphore != null) {
+
+			semaphore.acquireUninterruptibly();
+			limitedCallable = () -> {
+
+				try {
+					return callable.call();
+				} finally {
+					semaphore.release();
+				}
+			};
+
+		} else {
+			limitedCallable = callable;
+		}
+		return limitedCallable;
+	}
+
 	protected String createThreadCountDisplayString() {
 
-		final String threadCountDisplayString;
+		String threadCountDisplayString;
 		if (threadCount > 0) {
 			threadCountDisplayString = StrUtils.positiveIntToString(threadCount, true);
 		} else {
 			threadCountDisplayString = "unlimited";
 		}
+		if (executorType == ExecutorType.VIRTUAL_THREADS) {
+			threadCountDisplayString += " virtual";
+		}
 		return threadCountDisplayString;
 	}
 
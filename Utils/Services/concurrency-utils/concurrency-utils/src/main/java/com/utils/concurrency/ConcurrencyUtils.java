@@ -1,9 +1,45 @@
 package com.utils.concurrency;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface ConcurrencyUtils {
 
 	void executeMultiThreadedTask(
 			List<Runnable> runnableList);
+
+	/**
+	 * Takes the tasks from the stream only as fast as they can be run, so that the tasks do not all need to exist
+	 * up front and only a bounded number of them is submitted and not completed at any time.
+	 */
+	void executeMultiThreadedTask(
+			Stream<Runnable> runnableStream,
+			TaskCompletionListener taskCompletionListener);
+
+	/**
+	 * Passes the results of the callables to the consumer in the order in which the callables complete. The
+	 * consumer is always called from the calling thread.
+	 *
+	 * @return true if all the callables completed normally, false otherwise
+	 */
+	<T> boolean executeMultiThreadedCallables(
+			List<Callable<T>> callableList,
+			FailurePolicy failurePolicy,
+			Consumer<T> resultConsumer);
+
+	default void executeMultiThreadedTask(
+			final Iterator<Runnable> runnableIterator,
+			final TaskCompletionListener taskCompletionListener) {
+
+		final Spliterator<Runnable> runnableSpliterator =
+				Spliterators.spliteratorUnknownSize(runnableIterator, Spliterator.ORDERED);
+		final Stream<Runnable> runnableStream = StreamSupport.stream(runnableSpliterator, false);
+		executeMultiThreadedTask(runnableStream, taskCompletionListener);
+	}
 }
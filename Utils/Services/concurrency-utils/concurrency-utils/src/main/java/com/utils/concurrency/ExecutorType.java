@@ -0,0 +1,15 @@
+package com.utils.concurrency;
+
+public enum ExecutorType {
+
+	/**
+	 * a pool of platform threads, with the thread count as the size of the pool
+	 */
+	PLATFORM_THREADS,
+
+	/**
+	 * a new virtual thread for every task, with the thread count as the maximum number of tasks that run at the
+	 * same time
+	 */
+	VIRTUAL_THREADS
+}
@@ -0,0 +1,14 @@
+package com.utils.concurrency;
+
+public enum FailurePolicy {
+
+	/**
+	 * the failure of a task is reported and the other tasks keep running
+	 */
+	CONTINUE,
+
+	/**
+	 * the first failure of a task cancels the tasks that are still running or waiting to run
+	 */
+	FAIL_FAST
+}
@@ -0,0 +1,21 @@
+package com.utils.concurrency;
+
+@FunctionalInterface
+public interface TaskCompletionListener {
+
+	/**
+	 * Called once per task. With {@link ConcurrencyUtils#executeMultiThreadedTask(java.util.stream.Stream,
+	 * TaskCompletionListener)}, it is called from the worker thread that ran the task, right after the task
+	 * completed, so it may be called concurrently. With {@link ConcurrencyUtils#executeMultiThreadedCallables}, it
+	 * is called from the calling thread, in completion order, when the calling thread collects the completed task,
+	 * which can be some time after the task finished.
+	 *
+	 * @param completedTaskCount
+	 *            the number of tasks completed so far, including this one
+	 * @param throwable
+	 *            what the task threw, or null if it completed normally
+	 */
+	void taskCompleted(
+			long completedTaskCount,
+			Throwable throwable);
+}
@@ -0,0 +1,47 @@
+package com.utils.concurrency;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.utils.annotations.ApiMethod;
+
+/**
+ * One daemon thread shared by all the timed tasks, which waits on a delay queue for the earliest timeout. Cancelling
+ * a timeout removes it from the queue right away, so the tasks that complete in time leave nothing behind.
+ */
+public final class TimeoutScheduler {
+
+	private static final ScheduledThreadPoolExecutor SCHEDULED_EXECUTOR = createScheduledExecutor();
+
+	private TimeoutScheduler() {
+	}
+
+	private static ScheduledThreadPoolExecutor createScheduledExecutor() {
+
+		final ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+
+			final Thread thread = new Thread(runnable, "timeout-scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduledExecutor.setRemoveOnCancelPolicy(true);
+		return scheduledExecutor;
+	}
+
+	/**
+	 * @param timeoutAction
+	 *            run from the thread of the scheduler once the timeout expires; it needs to be short, since the
+	 *            other timeouts wait for it
+	 * @param timeout
+	 *            the timeout in milliseconds
+	 * @return the handle that the caller cancels once the task completes in time
+	 */
+	@ApiMethod
+	public static ScheduledFuture<?> schedule(
+			final Runnable timeoutAction,
+			final long timeout) {
+
+		return SCHEDULED_EXECUTOR.schedule(timeoutAction, timeout, TimeUnit.MILLISECONDS);
+	}
+}
@@ -3,19 +3,19 @@ package com.utils.concurrency.no_progress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Semaphore;
 
 import com.utils.concurrency.AbstractConcurrencyUtils;
-import com.utils.log.Logger;
+import com.utils.concurrency.ExecutorType;
 
 public abstract class AbstractConcurrencyUtilsSimple extends AbstractConcurrencyUtils {
 
 	protected AbstractConcurrencyUtilsSimple(
-			final int threadCount) {
+			final int threadCount,
+			final ExecutorType executorType) {
 
-		super(threadCount);
+		super(threadCount, executorType);
 	}
 
 	@Override
@@ -26,38 +26,30 @@ public abstract class AbstractConcurrencyUtilsSimple extends AbstractConcurrency
 
 			printInitMessages();
 
-			final ExecutorService executorService;
-			final int threadCount = getThreadCount();
-			if (threadCount <= 0) {
-				executorService = Executors.newCachedThreadPool();
-			} else {
-				executorService = Executors.newFixedThreadPool(threadCount);
-			}
+			final ExecutorService executorService = createExecutorService();
+			final Semaphore semaphore = createConcurrencyLimitSemaphore();
 
 			final List<Future<?>> futureList = new ArrayList<>();
 			for (final Runnable runnable : runnableList) {
-				submitCallable(runnable, executorService, futureList);
+				final Runnable limitedRunnable = acquireConcurrencyLimit(runnable, semaphore);
+				submitCallable(limitedRunnable, executorService, futureList);
 			}
 
 			for (final Future<?> future : futureList) {
 				futureGet(future);
 			}
 
-			executorService.shutdown();
-
-			boolean awaitTerminationSuccess = false;
-			try {
-				awaitTerminationSuccess = executorService.awaitTermination(10, TimeUnit.SECONDS);
+			shutdownExecutorService(executorService);
+		}
+	}
 
-			} catch (final Exception exc) {
-				Logger.printException(exc);
+	@Override
+	protected void submitStreamedCallable(
+			final Runnable runnable,
+			final ExecutorService executorService,
+			final List<Future<?>> futureList) {
 
-			} finally {
-				if (!awaitTerminationSuccess) {
-					Logger.printError("failed to await termination of multi-threaded tasks");
-				}
-			}
-		}
+		submitCallable(runnable, executorService, futureList);
 	}
 
 	protected abstract void submitCallable(
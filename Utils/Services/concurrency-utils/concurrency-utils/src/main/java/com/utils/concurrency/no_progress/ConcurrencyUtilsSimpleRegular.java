@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
+import com.utils.concurrency.ExecutorType;
 import com.utils.concurrency.no_progress.data.CustomCallable;
 import com.utils.concurrency.no_progress.data.CustomCallableRegular;
 import com.utils.log.Logger;
@@ -12,7 +13,13 @@ public class ConcurrencyUtilsSimpleRegular extends AbstractConcurrencyUtilsSimpl
 
 	public ConcurrencyUtilsSimpleRegular(
 			final int threadCount) {
-		super(threadCount);
+		this(threadCount, ExecutorType.PLATFORM_THREADS);
+	}
+
+	public ConcurrencyUtilsSimpleRegular(
+			final int threadCount,
+			final ExecutorType executorType) {
+		super(threadCount, executorType);
 	}
 
 	@Override
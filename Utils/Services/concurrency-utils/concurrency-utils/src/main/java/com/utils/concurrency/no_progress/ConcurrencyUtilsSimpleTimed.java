@@ -1,10 +1,13 @@
 package com.utils.concurrency.no_progress;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
+import com.utils.concurrency.ExecutorType;
 import com.utils.concurrency.no_progress.data.CustomCallableTimed;
+import com.utils.concurrency.no_progress.data.TimedCallable;
 import com.utils.log.Logger;
 import com.utils.string.StrUtils;
 
@@ -22,7 +25,23 @@ public class ConcurrencyUtilsSimpleTimed extends AbstractConcurrencyUtilsSimple
 			final int threadCount,
 			final int timeout) {
 
-		super(threadCount);
+		this(threadCount, ExecutorType.PLATFORM_THREADS, timeout);
+	}
+
+	/**
+	 * @param threadCount
+	 *            the maximum number of tasks that will run in parallel
+	 * @param executorType
+	 *            the type of the threads that run the tasks
+	 * @param timeout
+	 *            the duration in ms after which a task will be aborted
+	 */
+	public ConcurrencyUtilsSimpleTimed(
+			final int threadCount,
+			final ExecutorType executorType,
+			final int timeout) {
+
+		super(threadCount, executorType);
 
 		this.timeout = timeout;
 	}
@@ -49,6 +68,13 @@ public class ConcurrencyUtilsSimpleTimed extends AbstractConcurrencyUtilsSimple
 		futureList.add(future);
 	}
 
+	@Override
+	protected <T> Callable<T> createTimedCallable(
+			final Callable<T> callable) {
+
+		return new TimedCallable<>(callable, timeout);
+	}
+
 	@Override
 	protected void futureGet(
 			final Future<?> future) {
@@ -1,8 +1,9 @@
 package com.utils.concurrency.no_progress.data;
 
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+
+import com.utils.concurrency.TimeoutScheduler;
 
 public class CustomCallableTimed extends AbstractCustomCallable {
 
@@ -21,21 +22,20 @@ public class CustomCallableTimed extends AbstractCustomCallable {
 	@Override
 	protected void work() {
 
-		final Timer cancelTimer = new Timer();
-		cancelTimer.schedule(new TimerTask() {
-
-			@Override
-			public void run() {
+		final ScheduledFuture<?> timeoutFuture = TimeoutScheduler.schedule(() -> {
 
-				if (future != null) {
-					future.cancel(true);
-				}
+			if (future != null) {
+				future.cancel(true);
 			}
 		}, timeout);
 
-		final Runnable runnable = getRunnable();
-		runnable.run();
-		cancelTimer.cancel();
+		try {
+			final Runnable runnable = getRunnable();
+			runnable.run();
+
+		} finally {
+			timeoutFuture.cancel(false);
+		}
 	}
 
 	public void setFuture(
@@ -0,0 +1,36 @@
+package com.utils.concurrency.no_progress.data;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledFuture;
+
+import com.utils.concurrency.TimeoutScheduler;
+
+/**
+ * Interrupts the thread that runs the wrapped callable if it does not complete within the timeout.
+ */
+public class TimedCallable<T> implements Callable<T> {
+
+	private final Callable<T> callable;
+	private final int timeout;
+
+	public TimedCallable(
+			final Callable<T> callable,
+			final int timeout) {
+
+		this.callable = callable;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public T call() throws Exception {
+
+		final Thread thread = Thread.currentThread();
+		final ScheduledFuture<?> timeoutFuture = TimeoutScheduler.schedule(thread::interrupt, timeout);
+
+		try {
+			return callable.call();
+		} finally {
+			timeoutFuture.cancel(false);
+		}
+	}
+}
@@ -2,14 +2,18 @@ package com.utils.concurrency.progress;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import com.utils.concurrency.AbstractConcurrencyUtils;
-import com.utils.log.Logger;
+import com.utils.concurrency.ExecutorType;
+import com.utils.concurrency.FailurePolicy;
+import com.utils.concurrency.TaskCompletionListener;
 import com.utils.log.progress.ProgressIndicators;
 
 abstract class AbstractConcurrencyUtilsShowProgress extends AbstractConcurrencyUtils {
@@ -18,9 +22,10 @@ abstract class AbstractConcurrencyUtilsShowProgress extends AbstractConcurrencyU
 
 	AbstractConcurrencyUtilsShowProgress(
 			final int threadCount,
+			final ExecutorType executorType,
 			final int showProgressInterval) {
 
-		super(threadCount);
+		super(threadCount, executorType);
 
 		this.showProgressInterval = showProgressInterval;
 	}
@@ -33,20 +38,16 @@ abstract class AbstractConcurrencyUtilsShowProgress extends AbstractConcurrencyU
 
 			printInitMessages();
 
-			final ExecutorService executorService;
-			final int threadCount = getThreadCount();
-			if (threadCount <= 0) {
-				executorService = Executors.newCachedThreadPool();
-			} else {
-				executorService = Executors.newFixedThreadPool(threadCount);
-			}
+			final ExecutorService executorService = createExecutorService();
+			final Semaphore semaphore = createConcurrencyLimitSemaphore();
 			ProgressIndicators.getInstance().update(0);
 
 			final List<Future<?>> futureList = new ArrayList<>();
 			final AtomicInteger completedRunnablesCount = new AtomicInteger(0);
 			final int runnableCount = runnableList.size();
 			for (final Runnable runnable : runnableList) {
-				submitCallable(runnable, executorService, futureList,
+				final Runnable limitedRunnable = acquireConcurrencyLimit(runnable, semaphore);
+				submitCallable(limitedRunnable, executorService, futureList,
 						completedRunnablesCount, runnableCount, showProgressInterval);
 			}
 
@@ -54,24 +55,55 @@ abstract class AbstractConcurrencyUtilsShowProgress extends AbstractConcurrencyU
 				futureGet(future);
 			}
 
-			executorService.shutdown();
-
-			boolean awaitTerminationSuccess = false;
 			try {
-				awaitTerminationSuccess = executorService.awaitTermination(10, TimeUnit.SECONDS);
-
-			} catch (final Exception exc) {
-				Logger.printException(exc);
-
+				shutdownExecutorService(executorService);
 			} finally {
-				if (!awaitTerminationSuccess) {
-					Logger.printError("failed to await termination of multi-threaded tasks");
-				}
 				ProgressIndicators.getInstance().update(0);
 			}
 		}
 	}
 
+	@Override
+	public void executeMultiThreadedTask(
+			final Stream<Runnable> runnableStream,
+			final TaskCompletionListener taskCompletionListener) {
+
+		ProgressIndicators.getInstance().update(0);
+		try {
+			super.executeMultiThreadedTask(runnableStream, taskCompletionListener);
+		} finally {
+			ProgressIndicators.getInstance().update(0);
+		}
+	}
+
+	@Override
+	public <T> boolean executeMultiThreadedCallables(
+			final List<Callable<T>> callableList,
+			final FailurePolicy failurePolicy,
+			final Consumer<T> resultConsumer) {
+
+		ProgressIndicators.getInstance().update(0);
+		try {
+			return super.executeMultiThreadedCallables(callableList, failurePolicy, resultConsumer);
+		} finally {
+			ProgressIndicators.getInstance().update(0);
+		}
+	}
+
+	@Override
+	protected TaskCompletionListener createProgressTaskCompletionListener(
+			final TaskCompletionListener taskCompletionListener,
+			final long runnableCount) {
+
+		return (completedTaskCount, throwable) -> {
+
+			if (runnableCount > 0 && completedTaskCount % showProgressInterval == 0) {
+				ProgressIndicators.getInstance().update((double) completedTaskCount / runnableCount);
+			}
+			taskCompletionListener.taskCompleted(completedTaskCount, throwable);
+		};
+	}
+
 	abstract void submitCallable(
 			Runnable runnable,
 			ExecutorService executorService,
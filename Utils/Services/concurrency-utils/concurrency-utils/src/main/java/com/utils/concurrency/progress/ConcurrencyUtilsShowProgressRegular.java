@@ -5,7 +5,9 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.utils.concurrency.ExecutorType;
 import com.utils.concurrency.no_progress.data.CustomCallable;
+import com.utils.concurrency.no_progress.data.CustomCallableRegular;
 import com.utils.concurrency.progress.data.CustomCallableShowProgressRegular;
 import com.utils.log.Logger;
 
@@ -14,7 +16,14 @@ public class ConcurrencyUtilsShowProgressRegular extends AbstractConcurrencyUtil
 	public ConcurrencyUtilsShowProgressRegular(
 			final int threadCount,
 			final int showProgressInterval) {
-		super(threadCount, showProgressInterval);
+		this(threadCount, ExecutorType.PLATFORM_THREADS, showProgressInterval);
+	}
+
+	public ConcurrencyUtilsShowProgressRegular(
+			final int threadCount,
+			final ExecutorType executorType,
+			final int showProgressInterval) {
+		super(threadCount, executorType, showProgressInterval);
 	}
 
 	@Override
@@ -39,6 +48,17 @@ public class ConcurrencyUtilsShowProgressRegular extends AbstractConcurrencyUtil
 		futureList.add(future);
 	}
 
+	@Override
+	protected void submitStreamedCallable(
+			final Runnable runnable,
+			final ExecutorService executorService,
+			final List<Future<?>> futureList) {
+
+		final CustomCallable customCallable = new CustomCallableRegular(runnable);
+		final Future<Void> future = executorService.submit(customCallable);
+		futureList.add(future);
+	}
+
 	@Override
 	protected void futureGet(
 			final Future<?> future) {
@@ -1,12 +1,16 @@
 package com.utils.concurrency.progress;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.utils.concurrency.ExecutorType;
+import com.utils.concurrency.no_progress.data.CustomCallableTimed;
+import com.utils.concurrency.no_progress.data.TimedCallable;
 import com.utils.concurrency.progress.data.CustomCallableShowProgressTimed;
 import com.utils.log.Logger;
 import com.utils.string.StrUtils;
@@ -26,7 +30,24 @@ public class ConcurrencyUtilsShowProgressTimed extends AbstractConcurrencyUtilsS
 			final int showProgressInterval,
 			final int timeout) {
 
-		super(threadCount, showProgressInterval);
+		this(threadCount, ExecutorType.PLATFORM_THREADS, showProgressInterval, timeout);
+	}
+
+	/**
+	 * @param threadCount
+	 *            the maximum number of tasks that will run in parallel
+	 * @param executorType
+	 *            the type of the threads that run the tasks
+	 * @param timeout
+	 *            the duration in ms after which a task will be aborted
+	 */
+	public ConcurrencyUtilsShowProgressTimed(
+			final int threadCount,
+			final ExecutorType executorType,
+			final int showProgressInterval,
+			final int timeout) {
+
+		super(threadCount, executorType, showProgressInterval);
 
 		this.timeout = timeout;
 	}
@@ -56,6 +77,25 @@ public class ConcurrencyUtilsShowProgressTimed extends AbstractConcurrencyUtilsS
 		futureList.add(future);
 	}
 
+	@Override
+	protected void submitStreamedCallable(
+			final Runnable runnable,
+			final ExecutorService executorService,
+			final List<Future<?>> futureList) {
+
+		final CustomCallableTimed customCallableTimed = new CustomCallableTimed(runnable, timeout);
+		final Future<Void> future = executorService.submit(customCallableTimed);
+		customCallableTimed.setFuture(future);
+		futureList.add(future);
+	}
+
+	@Override
+	protected <T> Callable<T> createTimedCallable(
+			final Callable<T> callable) {
+
+		return new TimedCallable<>(callable, timeout);
+	}
+
 	@Override
 	protected void futureGet(
 			final Future<?> future) {
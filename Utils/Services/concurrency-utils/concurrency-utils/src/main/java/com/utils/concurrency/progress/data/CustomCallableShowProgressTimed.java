@@ -1,10 +1,11 @@
 package com.utils.concurrency.progress.data;
 
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.utils.concurrency.TimeoutScheduler;
+
 public class CustomCallableShowProgressTimed extends AbstractCustomCallableShowProgress {
 
 	private final int timeout;
@@ -25,21 +26,20 @@ public class CustomCallableShowProgressTimed extends AbstractCustomCallableShowP
 	@Override
 	protected void work() {
 
-		final Timer cancelTimer = new Timer();
-		cancelTimer.schedule(new TimerTask() {
-
-			@Override
-			public void run() {
+		final ScheduledFuture<?> timeoutFuture = TimeoutScheduler.schedule(() -> {
 
-				if (future != null) {
-					future.cancel(true);
-				}
+			if (future != null) {
+				future.cancel(true);
 			}
 		}, timeout);
 
-		final Runnable runnable = getRunnable();
-		runnable.run();
-		cancelTimer.cancel();
+		try {
+			final Runnable runnable = getRunnable();
+			runnable.run();
+
+		} finally {
+			timeoutFuture.cancel(false);
+		}
 	}
 
 	public void setFuture(
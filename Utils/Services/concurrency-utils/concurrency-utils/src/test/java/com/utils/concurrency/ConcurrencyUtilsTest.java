@@ -3,7 +3,13 @@ package com.utils.concurrency;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.utils.concurrency.no_progress.ConcurrencyUtilsSimpleRegular;
@@ -26,6 +32,8 @@ class ConcurrencyUtilsTest {
 			concurrencyUtils = new ConcurrencyUtilsSimpleRegular(16);
 		} else if (input == 2) {
 			concurrencyUtils = new ConcurrencyUtilsSimpleTimed(16, 500);
+		} else if (input == 3) {
+			concurrencyUtils = new ConcurrencyUtilsSimpleRegular(4, ExecutorType.VIRTUAL_THREADS);
 
 		} else if (input == 11) {
 			ProgressIndicators.setInstance(ProgressIndicatorConsole.INSTANCE);
@@ -33,6 +41,9 @@ class ConcurrencyUtilsTest {
 		} else if (input == 12) {
 			ProgressIndicators.setInstance(ProgressIndicatorConsole.INSTANCE);
 			concurrencyUtils = new ConcurrencyUtilsShowProgressTimed(16, 1, 500);
+		} else if (input == 13) {
+			ProgressIndicators.setInstance(ProgressIndicatorConsole.INSTANCE);
+			concurrencyUtils = new ConcurrencyUtilsShowProgressRegular(4, ExecutorType.VIRTUAL_THREADS, 1);
 
 		} else {
 			throw new RuntimeException();
@@ -45,6 +56,132 @@ class ConcurrencyUtilsTest {
 		concurrencyUtils.executeMultiThreadedTask(runnableList);
 	}
 
+	@Test
+	void testExecuteMultiThreadedTaskStream() {
+
+		final ConcurrencyUtils concurrencyUtils;
+		final int input = StrUtils.tryParsePositiveInt("1");
+		if (input == 1) {
+			concurrencyUtils = new ConcurrencyUtilsSimpleRegular(16);
+		} else if (input == 2) {
+			concurrencyUtils = new ConcurrencyUtilsSimpleRegular(16, ExecutorType.VIRTUAL_THREADS);
+
+		} else if (input == 11) {
+			ProgressIndicators.setInstance(ProgressIndicatorConsole.INSTANCE);
+			concurrencyUtils = new ConcurrencyUtilsShowProgressRegular(16, 1000);
+
+		} else {
+			throw new RuntimeException();
+		}
+
+		final int runnableCount = 100_000;
+		final AtomicInteger runCount = new AtomicInteger(0);
+		final AtomicLong completedTaskCount = new AtomicLong(0);
+		final AtomicInteger failedTaskCount = new AtomicInteger(0);
+		final Stream<Runnable> runnableStream = IntStream.range(0, runnableCount).mapToObj(index -> () -> {
+
+			runCount.incrementAndGet();
+			if (index % 1000 == 0) {
+				throw new IllegalStateException("task " + index + " failed");
+			}
+		});
+
+		Logger.printProgress("running concurrency utils stream test");
+		concurrencyUtils.executeMultiThreadedTask(runnableStream, (completedCount, throwable) -> {
+
+			completedTaskCount.accumulateAndGet(completedCount, Math::max);
+			if (throwable != null) {
+				failedTaskCount.incrementAndGet();
+			}
+		});
+
+		Assertions.assertEquals(runnableCount, runCount.get());
+		Assertions.assertEquals(runnableCount, completedTaskCount.get());
+		Assertions.assertEquals(runnableCount / 1000, failedTaskCount.get());
+	}
+
+	@Test
+	void testExecuteMultiThreadedCallables() {
+
+		final ConcurrencyUtils concurrencyUtils = new ConcurrencyUtilsSimpleRegular(8);
+
+		final List<Callable<Integer>> callableList = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+
+			final int index = i;
+			callableList.add(() -> {
+
+				Thread.sleep((100 - index) % 7);
+				return index;
+			});
+		}
+
+		final List<Integer> resultList = new ArrayList<>();
+		final boolean success =
+				concurrencyUtils.executeMultiThreadedCallables(callableList, FailurePolicy.FAIL_FAST, resultList::add);
+		Assertions.assertTrue(success);
+
+		resultList.sort(null);
+		Assertions.assertEquals(IntStream.range(0, 100).boxed().toList(), resultList);
+	}
+
+	@Test
+	void testExecuteMultiThreadedCallablesFailFast() {
+
+		final ConcurrencyUtils concurrencyUtils = new ConcurrencyUtilsSimpleRegular(4);
+
+		final int callableCount = 1000;
+		final AtomicInteger startedCount = new AtomicInteger(0);
+		final List<Callable<Integer>> callableList = new ArrayList<>();
+		for (int i = 0; i < callableCount; i++) {
+
+			final int index = i;
+			callableList.add(() -> {
+
+				startedCount.incrementAndGet();
+				if (index == 10) {
+					throw new IllegalStateException("task " + index + " failed");
+				}
+				Thread.sleep(10);
+				return index;
+			});
+		}
+
+		final boolean success =
+				concurrencyUtils.executeMultiThreadedCallables(callableList, FailurePolicy.FAIL_FAST, result -> {
+				});
+		Assertions.assertFalse(success);
+		Assertions.assertTrue(startedCount.get() < callableCount);
+	}
+
+	@Test
+	void testExecuteMultiThreadedCallablesTimed() {
+
+		final ConcurrencyUtils concurrencyUtils = new ConcurrencyUtilsSimpleTimed(4, 300);
+
+		final List<Callable<Integer>> callableList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+
+			final int index = i;
+			callableList.add(() -> index);
+		}
+		callableList.add(() -> {
+
+			Thread.sleep(60_000);
+			return -1;
+		});
+
+		final long startTime = System.currentTimeMillis();
+		final List<Integer> resultList = new ArrayList<>();
+		final boolean success =
+				concurrencyUtils.executeMultiThreadedCallables(callableList, FailurePolicy.CONTINUE, resultList::add);
+		final long duration = System.currentTimeMillis() - startTime;
+
+		Assertions.assertFalse(success);
+		Assertions.assertEquals(1000, resultList.size());
+		Assertions.assertTrue(duration < 10_000, "the timed out callable was not interrupted");
+	}
+
 	private static void fillRunnableList(
 			final List<Runnable> runnableList) {
 
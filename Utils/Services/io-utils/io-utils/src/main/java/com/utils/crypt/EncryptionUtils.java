@@ -1,15 +1,22 @@
 package com.utils.crypt;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.spec.KeySpec;
 
 import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.CipherOutputStream;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 
+import org.apache.commons.io.IOUtils;
+
+import com.utils.io.StreamUtils;
 import com.utils.log.Logger;
 
 public final class EncryptionUtils {
@@ -55,6 +62,64 @@ public final class EncryptionUtils {
 		return decryptedByteArray;
 	}
 
+	/**
+	 * Encrypts the file through a {@link CipherOutputStream}, so the file is never held in memory as a whole.
+	 */
+	public static boolean encryptFile(
+			final String inputFilePathString,
+			final String outputFilePathString) {
+
+		boolean success = false;
+		try {
+			final Cipher cipher = createEncryptCipher();
+			if (cipher != null) {
+
+				try (InputStream inputStream = StreamUtils.openBufferedInputStream(inputFilePathString);
+						OutputStream outputStream = new CipherOutputStream(
+								StreamUtils.openBufferedOutputStream(outputFilePathString), cipher)) {
+
+					IOUtils.copy(inputStream, outputStream);
+				}
+				success = true;
+			}
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to encrypt file:" +
+					System.lineSeparator() + inputFilePathString);
+			Logger.printException(exc);
+		}
+		return success;
+	}
+
+	/**
+	 * Decrypts the file through a {@link CipherInputStream}, so the file is never held in memory as a whole.
+	 */
+	public static boolean decryptFile(
+			final String inputFilePathString,
+			final String outputFilePathString) {
+
+		boolean success = false;
+		try {
+			final Cipher cipher = createDecryptCipher();
+			if (cipher != null) {
+
+				try (InputStream inputStream = new CipherInputStream(
+						StreamUtils.openBufferedInputStream(inputFilePathString), cipher);
+						OutputStream outputStream = StreamUtils.openBufferedOutputStream(outputFilePathString)) {
+
+					IOUtils.copy(inputStream, outputStream);
+				}
+				success = true;
+			}
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to decrypt file:" +
+					System.lineSeparator() + inputFilePathString);
+			Logger.printException(exc);
+		}
+		return success;
+	}
+
 	public static Cipher createEncryptCipher() {
 		return createCipher(Cipher.ENCRYPT_MODE);
 	}
@@ -68,16 +133,13 @@ public final class EncryptionUtils {
 
 		Cipher cipher = null;
 		try {
-			final IvParameterSpec ivParameterSpec = new IvParameterSpec(IV);
-
-			final SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
-			final KeySpec spec = new PBEKeySpec(SECRET_KEY.toCharArray(),
-					SALT.getBytes(StandardCharsets.UTF_8), 65_536, 256);
-			final SecretKey tmp = factory.generateSecret(spec);
-			final SecretKeySpec secretKey = new SecretKeySpec(tmp.getEncoded(), "AES");
+			final SecretKeySpec secretKey = SecretKeyHolder.SECRET_KEY_SPEC;
+			if (secretKey != null) {
 
-			cipher = Cipher.getInstance("AES/CBC/PKCS5PADDING");
-			cipher.init(encryptMode, secretKey, ivParameterSpec);
+				final IvParameterSpec ivParameterSpec = new IvParameterSpec(IV);
+				cipher = Cipher.getInstance("AES/CBC/PKCS5PADDING");
+				cipher.init(encryptMode, secretKey, ivParameterSpec);
+			}
 
 		} catch (final Exception exc) {
 			Logger.printError("failed to create cipher");
@@ -85,4 +147,33 @@ public final class EncryptionUtils {
 		}
 		return cipher;
 	}
+
+	/**
+	 * The key is derived with 65,536 iterations of PBKDF2 from constant inputs, so it is derived only once, the
+	 * first time a cipher is created.
+	 */
+	private static final class SecretKeyHolder {
+
+		private static final SecretKeySpec SECRET_KEY_SPEC = createSecretKeySpec();
+
+		private SecretKeyHolder() {
+		}
+
+		private static SecretKeySpec createSecretKeySpec() {
+
+			SecretKeySpec secretKeySpec = null;
+			try {
+				final SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+				final KeySpec spec = new PBEKeySpec(SECRET_KEY.toCharArray(),
+						SALT.getBytes(StandardCharsets.UTF_8), 65_536, 256);
+				final SecretKey tmp = factory.generateSecret(spec);
+				secretKeySpec = new SecretKeySpec(tmp.getEncoded(), "AES");
+
+			} catch (final Exception exc) {
+				Logger.printError("failed to derive the secret key");
+				Logger.printException(exc);
+			}
+			return secretKeySpec;
+		}
+	}
 }
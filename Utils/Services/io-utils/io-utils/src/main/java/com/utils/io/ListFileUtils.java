@@ -7,9 +7,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import com.utils.log.Logger;
+import com.utils.string.regex.glob.GlobFilterMatcher;
+import com.utils.string.regex.glob.GlobRegexMatcher;
 
 public final class ListFileUtils {
 
@@ -21,6 +27,21 @@ public final class ListFileUtils {
 			final Consumer<Path> visitDirectoryConsumer,
 			final Consumer<Path> visitFileConsumer) {
 
+		visitFiles(rootDirPathString,
+				(dirPath, basicFileAttributes) -> visitDirectoryConsumer.accept(dirPath),
+				(filePath, basicFileAttributes) -> visitFileConsumer.accept(filePath));
+	}
+
+	/**
+	 * Same as {@link #visitFiles(String, Consumer, Consumer)}, but also passes to the consumers the attributes that
+	 * were read while walking, so that the size, the last modified time and the type of the files do not need to be
+	 * read again.
+	 */
+	public static void visitFiles(
+			final String rootDirPathString,
+			final BiConsumer<Path, BasicFileAttributes> visitDirectoryConsumer,
+			final BiConsumer<Path, BasicFileAttributes> visitFileConsumer) {
+
 		try {
 			final Path rootDirPath = Paths.get(rootDirPathString);
 			Files.walkFileTree(rootDirPath, new SimpleFileVisitor<>() {
@@ -34,7 +55,7 @@ public final class ListFileUtils {
 					if (rootDirPath.equals(dir)) {
 						fileVisitResult = FileVisitResult.CONTINUE;
 					} else {
-						visitDirectoryConsumer.accept(dir);
+						visitDirectoryConsumer.accept(dir, attrs);
 						fileVisitResult = FileVisitResult.SKIP_SUBTREE;
 					}
 					return fileVisitResult;
@@ -45,7 +66,7 @@ public final class ListFileUtils {
 						final Path file,
 						final BasicFileAttributes attrs) {
 
-					visitFileConsumer.accept(file);
+					visitFileConsumer.accept(file, attrs);
 					return FileVisitResult.CONTINUE;
 				}
 
@@ -80,6 +101,20 @@ public final class ListFileUtils {
 			final Consumer<Path> visitDirectoryConsumer,
 			final Consumer<Path> visitFileConsumer) {
 
+		visitFilesRecursively(rootDirPathString,
+				(dirPath, basicFileAttributes) -> visitDirectoryConsumer.accept(dirPath),
+				(filePath, basicFileAttributes) -> visitFileConsumer.accept(filePath));
+	}
+
+	/**
+	 * Same as {@link #visitFilesRecursively(String, Consumer, Consumer)}, but also passes to the consumers the
+	 * attributes that were read while walking.
+	 */
+	public static void visitFilesRecursively(
+			final String rootDirPathString,
+			final BiConsumer<Path, BasicFileAttributes> visitDirectoryConsumer,
+			final BiConsumer<Path, BasicFileAttributes> visitFileConsumer) {
+
 		try {
 			final Path rootDirPath = Paths.get(rootDirPathString);
 			Files.walkFileTree(rootDirPath, new SimpleFileVisitor<>() {
@@ -90,7 +125,7 @@ public final class ListFileUtils {
 						final BasicFileAttributes attrs) {
 
 					if (!rootDirPath.equals(dir)) {
-						visitDirectoryConsumer.accept(dir);
+						visitDirectoryConsumer.accept(dir, attrs);
 					}
 					return FileVisitResult.CONTINUE;
 				}
@@ -100,7 +135,7 @@ public final class ListFileUtils {
 						final Path file,
 						final BasicFileAttributes attrs) {
 
-					visitFileConsumer.accept(file);
+					visitFileConsumer.accept(file, attrs);
 					return FileVisitResult.CONTINUE;
 				}
 
@@ -129,4 +164,80 @@ public final class ListFileUtils {
 			Logger.printException(exc);
 		}
 	}
+
+	/**
+	 * Walks the directory tree with a fork/join task for each directory, so that the listing of the directories
+	 * overlaps, which pays off on file systems with a high latency per file.
+	 *
+	 * @param maxDepth
+	 *            the maximum depth of the visited paths, the entries of the root directory having depth 1; the
+	 *            directories at the maximum depth are visited but not listed
+	 * @param fileNamePatterns
+	 *            glob patterns parsed with {@link com.utils.string.regex.glob.GlobRegexMatcher#parseFilterPatterns},
+	 *            matched case-insensitively against the names of the files; null to visit all the files
+	 * @param threadCount
+	 *            the number of threads that list the directories
+	 * @param ordered
+	 *            if true, the consumers are called from the calling thread, after the walk, in the same order as in
+	 *            {@link #visitFilesRecursively}; otherwise, they are called during the walk from the threads of the
+	 *            pool and they need to be thread-safe; they should not block for long either, since the pool never
+	 *            grows beyond threadCount threads, so a blocked consumer holds one of them and slows down the walk
+	 */
+	public static void visitFilesRecursivelyParallel(
+			final String rootDirPathString,
+			final int maxDepth,
+			final List<String[]> fileNamePatterns,
+			final int threadCount,
+			final boolean ordered,
+			final Consumer<Path> visitDirectoryConsumer,
+			final Consumer<Path> visitFileConsumer) {
+
+		visitFilesRecursivelyParallel(rootDirPathString, maxDepth, fileNamePatterns, threadCount, ordered,
+				(dirPath, basicFileAttributes) -> visitDirectoryConsumer.accept(dirPath),
+				(filePath, basicFileAttributes) -> visitFileConsumer.accept(filePath));
+	}
+
+	/**
+	 * Same as {@link #visitFilesRecursivelyParallel(String, int, List, int, boolean, Consumer, Consumer)}, but also
+	 * passes to the consumers the attributes that were read while walking.
+	 */
+	public static void visitFilesRecursivelyParallel(
+			final String rootDirPathString,
+			final int maxDepth,
+			final List<String[]> fileNamePatterns,
+			final int threadCount,
+			final boolean ordered,
+			final BiConsumer<Path, BasicFileAttributes> visitDirectoryConsumer,
+			final BiConsumer<Path, BasicFileAttributes> visitFileConsumer) {
+
+		try (ForkJoinPool forkJoinPool = createForkJoinPool(threadCount)) {
+
+			final Path rootDirPath = Paths.get(rootDirPathString);
+			final GlobFilterMatcher fileNameMatcher = GlobRegexMatcher.compileFilterPatterns(fileNamePatterns, false);
+			final ParallelDirectoryWalkTask.Settings settings = new ParallelDirectoryWalkTask.Settings(
+					maxDepth, fileNameMatcher, ordered, visitDirectoryConsumer, visitFileConsumer);
+			final List<ParallelDirectoryWalkTask.VisitedPath> visitedPathList =
+					forkJoinPool.invoke(new ParallelDirectoryWalkTask(rootDirPath, 0, settings));
+			for (final ParallelDirectoryWalkTask.VisitedPath visitedPath : visitedPathList) {
+				settings.accept(visitedPath);
+			}
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to visit files recursively of directory:" +
+					System.lineSeparator() + rootDirPathString);
+			Logger.printException(exc);
+		}
+	}
+
+	/**
+	 * By default, a fork/join pool adds a thread for every worker that blocks, for example in a consumer that puts
+	 * the visited paths in a bounded queue, up to 32767 threads. The maximum pool size of this pool is threadCount,
+	 * and with the saturate predicate always true a blocked worker simply waits instead of being compensated.
+	 */
+	private static ForkJoinPool createForkJoinPool(
+			final int threadCount) {
+
+		return new ForkJoinPool(threadCount, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false,
+				0, threadCount, 1, forkJoinPool -> true, 60, TimeUnit.SECONDS);
+	}
 }
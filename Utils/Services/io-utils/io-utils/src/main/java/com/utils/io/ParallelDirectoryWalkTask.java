@@ -0,0 +1,158 @@
+package com.utils.io;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+
+import com.utils.log.Logger;
+import com.utils.string.regex.glob.GlobFilterMatcher;
+
+/**
+ * Lists one directory and forks a task for each of its sub-directories. In the ordered mode, the visited paths are
+ * returned and joined in the order of the directory listing, the same as {@link Files#walkFileTree}. In the unordered
+ * mode, the consumers are called right away from the threads of the pool and nothing is returned.
+ */
+class ParallelDirectoryWalkTask extends RecursiveTask<List<ParallelDirectoryWalkTask.VisitedPath>> {
+
+	private final Path dirPath;
+	private final int depth;
+	private final Settings settings;
+
+	ParallelDirectoryWalkTask(
+			final Path dirPath,
+			final int depth,
+			final Settings settings) {
+
+		this.dirPath = dirPath;
+		this.depth = depth;
+		this.settings = settings;
+	}
+
+	@Override
+	protected List<VisitedPath> compute() {
+
+		final List<DirectoryEntry> directoryEntryList = listDirectoryEntries();
+
+		final List<VisitedPath> visitedPathList;
+		if (settings.ordered()) {
+
+			visitedPathList = new ArrayList<>();
+			for (final DirectoryEntry directoryEntry : directoryEntryList) {
+
+				visitedPathList.add(directoryEntry.visitedPath());
+				final ParallelDirectoryWalkTask subTask = directoryEntry.subTask();
+				if (subTask != null) {
+					visitedPathList.addAll(subTask.join());
+				}
+			}
+
+		} else {
+			for (final DirectoryEntry directoryEntry : directoryEntryList) {
+				settings.accept(directoryEntry.visitedPath());
+			}
+			for (final DirectoryEntry directoryEntry : directoryEntryList) {
+
+				final ParallelDirectoryWalkTask subTask = directoryEntry.subTask();
+				if (subTask != null) {
+					subTask.join();
+				}
+			}
+			visitedPathList = List.of();
+		}
+		return visitedPathList;
+	}
+
+	private List<DirectoryEntry> listDirectoryEntries() {
+
+		final List<DirectoryEntry> directoryEntryList = new ArrayList<>();
+		try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(dirPath)) {
+
+			final int entryDepth = depth + 1;
+			for (final Path path : directoryStream) {
+
+				final BasicFileAttributes basicFileAttributes = readBasicFileAttributes(path);
+				if (basicFileAttributes != null) {
+
+					final VisitedPath visitedPath = new VisitedPath(path, basicFileAttributes);
+					if (basicFileAttributes.isDirectory()) {
+
+						ParallelDirectoryWalkTask subTask = null;
+						if (entryDepth < settings.maxDepth()) {
+
+							subTask = new ParallelDirectoryWalkTask(path, entryDepth, settings);
+							subTask.fork();
+						}
+						directoryEntryList.add(new DirectoryEntry(visitedPath, subTask));
+
+					} else if (matchesFileNamePatterns(path)) {
+						directoryEntryList.add(new DirectoryEntry(visitedPath, null));
+					}
+				}
+			}
+
+		} catch (final IOException exc) {
+			Logger.printWarning("cannot visit \"" + dirPath + "\" due to " +
+					exc.getClass().getSimpleName());
+		}
+		return directoryEntryList;
+	}
+
+	private static BasicFileAttributes readBasicFileAttributes(
+			final Path path) {
+
+		BasicFileAttributes basicFileAttributes = null;
+		try {
+			basicFileAttributes =
+					Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+
+		} catch (final IOException exc) {
+			Logger.printWarning("cannot visit \"" + path + "\" due to " +
+					exc.getClass().getSimpleName());
+		}
+		return basicFileAttributes;
+	}
+
+	private boolean matchesFileNamePatterns(
+			final Path filePath) {
+
+		final String fileName = PathUtils.computeFileName(filePath);
+		return settings.fileNameMatcher().matches(fileName);
+	}
+
+	private record DirectoryEntry(
+			VisitedPath visitedPath,
+			ParallelDirectoryWalkTask subTask) {
+	}
+
+	record VisitedPath(
+			Path path,
+			BasicFileAttributes basicFileAttributes) {
+	}
+
+	record Settings(
+			int maxDepth,
+			GlobFilterMatcher fileNameMatcher,
+			boolean ordered,
+			BiConsumer<Path, BasicFileAttributes> visitDirectoryConsumer,
+			BiConsumer<Path, BasicFileAttributes> visitFileConsumer) {
+
+		void accept(
+				final VisitedPath visitedPath) {
+
+			final Path path = visitedPath.path();
+			final BasicFileAttributes basicFileAttributes = visitedPath.basicFileAttributes();
+			if (basicFileAttributes.isDirectory()) {
+				visitDirectoryConsumer.accept(path, basicFileAttributes);
+			} else {
+				visitFileConsumer.accept(path, basicFileAttributes);
+			}
+		}
+	}
+}
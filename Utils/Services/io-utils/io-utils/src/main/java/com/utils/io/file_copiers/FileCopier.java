@@ -1,6 +1,9 @@
 package com.utils.io.file_copiers;
 
+import java.util.function.BooleanSupplier;
+
 import com.utils.annotations.ApiMethod;
+import com.utils.io.progress.listeners.ProgressListener;
 
 public interface FileCopier {
 
@@ -20,4 +23,26 @@ public interface FileCopier {
 			boolean copyAttributes,
 			boolean verboseProgress,
 			boolean verboseError);
+
+	/**
+	 * Copies the file in fixed-size chunks with {@link java.nio.channels.FileChannel#transferTo}, which lets the
+	 * operating system copy the data without passing it through the heap, and reports the progress after every
+	 * chunk. The data is written to a temporary file next to the destination file, which replaces the destination
+	 * file only once the copy is complete, so a failed or cancelled copy leaves the destination file unchanged. If
+	 * the source and the destination are the same file, for example through a hard link, nothing is copied.
+	 *
+	 * @param progressListener
+	 *            called after every chunk with the number of copied bytes and the size of the file
+	 * @param cancelRequested
+	 *            checked before every chunk; the copy is cancelled as soon as it returns true
+	 */
+	@ApiMethod
+	boolean copyFileChunked(
+			String srcFilePathString,
+			String dstFilePathString,
+			boolean copyAttributes,
+			ProgressListener progressListener,
+			BooleanSupplier cancelRequested,
+			boolean verboseProgress,
+			boolean verboseError);
 }
@@ -1,23 +1,43 @@
 package com.utils.io.file_copiers;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.CopyOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
 
 import com.utils.annotations.ApiMethod;
 import com.utils.io.IoUtils;
 import com.utils.io.folder_creators.FactoryFolderCreator;
+import com.utils.io.progress.listeners.ProgressListener;
 import com.utils.io.ro_flag_clearers.FactoryReadOnlyFlagClearer;
 import com.utils.log.Logger;
 import com.utils.string.StrUtils;
 
 class FileCopierImpl implements FileCopier {
 
+	private static final long DEFAULT_COPY_CHUNK_SIZE = 64L * 1024 * 1024;
+
+	private final long copyChunkSize;
+
 	FileCopierImpl() {
+		this(DEFAULT_COPY_CHUNK_SIZE);
+	}
+
+	FileCopierImpl(
+			final long copyChunkSize) {
+
+		this.copyChunkSize = copyChunkSize;
 	}
 
 	@ApiMethod
@@ -54,14 +74,7 @@ class FileCopierImpl implements FileCopier {
 				Logger.printLine(dstFilePathString);
 			}
 
-			final boolean keepGoing;
-			if (dstFileExists) {
-				keepGoing = FactoryReadOnlyFlagClearer.getInstance()
-						.clearReadOnlyFlagFileNoChecks(dstFilePathString, false, verboseError);
-			} else {
-				keepGoing = FactoryFolderCreator.getInstance()
-						.createParentDirectories(dstFilePathString, false, verboseError);
-			}
+			final boolean keepGoing = prepareDstFile(dstFilePathString, dstFileExists, verboseError);
 			if (keepGoing) {
 
 				final List<CopyOption> copyOptionList = new ArrayList<>();
@@ -94,6 +107,165 @@ class FileCopierImpl implements FileCopier {
 		return success;
 	}
 
+	@ApiMethod
+	@Override
+	public boolean copyFileChunked(
+			final String srcFilePathString,
+			final String dstFilePathString,
+			final boolean copyAttributes,
+			final ProgressListener progressListener,
+			final BooleanSupplier cancelRequested,
+			final boolean verboseProgress,
+			final boolean verboseError) {
+
+		boolean success = false;
+		boolean cancelled = false;
+		try {
+			if (verboseProgress) {
+
+				Logger.printProgress("copying file:");
+				Logger.printLine(srcFilePathString);
+				Logger.printLine("to:");
+				Logger.printLine(dstFilePathString);
+			}
+
+			final Path srcFilePath = Paths.get(srcFilePathString);
+			final Path dstFilePath = Paths.get(dstFilePathString);
+			final boolean dstFileExists = IoUtils.fileExists(dstFilePathString);
+			if (dstFileExists && Files.isSameFile(srcFilePath, dstFilePath)) {
+				success = true;
+
+			} else {
+				final boolean keepGoing = prepareDstFile(dstFilePathString, dstFileExists, verboseError);
+				if (keepGoing) {
+
+					final Path tmpFilePath = createTmpFilePath(dstFilePath);
+					try {
+						cancelled = transferChunks(srcFilePath, tmpFilePath, progressListener, cancelRequested);
+						if (cancelled) {
+							if (verboseError) {
+								Logger.printWarning("cancelled the copy of file:" +
+										System.lineSeparator() + srcFilePathString);
+							}
+
+						} else {
+							if (copyAttributes) {
+								copyBasicFileAttributes(srcFilePath, tmpFilePath);
+							}
+							moveTmpFile(tmpFilePath, dstFilePath);
+							success = true;
+						}
+
+					} finally {
+						Files.deleteIfExists(tmpFilePath);
+					}
+				}
+			}
+
+		} catch (final Exception exc) {
+			Logger.printException(exc);
+		}
+
+		if (!success && !cancelled) {
+			if (verboseError) {
+				Logger.printError("failed to copy file " +
+						System.lineSeparator() + srcFilePathString +
+						System.lineSeparator() + "to:" +
+						System.lineSeparator() + dstFilePathString);
+			}
+		}
+
+		return success;
+	}
+
+	/**
+	 * @return true if the copy was cancelled
+	 */
+	private boolean transferChunks(
+			final Path srcFilePath,
+			final Path tmpFilePath,
+			final ProgressListener progressListener,
+			final BooleanSupplier cancelRequested) throws IOException {
+
+		boolean cancelled = false;
+		try (FileChannel srcFileChannel = FileChannel.open(srcFilePath, StandardOpenOption.READ);
+				FileChannel tmpFileChannel = FileChannel.open(tmpFilePath, StandardOpenOption.WRITE,
+						StandardOpenOption.CREATE_NEW)) {
+
+			final long size = srcFileChannel.size();
+			long position = 0;
+			progressListener.transferred(position, size);
+			while (position < size && !cancelled) {
+
+				if (cancelRequested.getAsBoolean()) {
+					cancelled = true;
+
+				} else {
+					final long count = Math.min(copyChunkSize, size - position);
+					final long transferredCount = srcFileChannel.transferTo(position, count, tmpFileChannel);
+					if (transferredCount <= 0) {
+						throw new IOException("the source file was truncated while being copied");
+					}
+					position += transferredCount;
+					progressListener.transferred(position, size);
+				}
+			}
+		}
+		return cancelled;
+	}
+
+	/**
+	 * The temporary file is created in the folder of the destination file, so that moving it over the destination
+	 * file is a rename within the same file system.
+	 */
+	private static Path createTmpFilePath(
+			final Path dstFilePath) {
+
+		final String tmpFileName = "." + dstFilePath.getFileName() + "." +
+				Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp";
+		return dstFilePath.resolveSibling(tmpFileName);
+	}
+
+	private static void moveTmpFile(
+			final Path tmpFilePath,
+			final Path dstFilePath) throws IOException {
+
+		try {
+			Files.move(tmpFilePath, dstFilePath,
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		} catch (final AtomicMoveNotSupportedException exc) {
+			Files.move(tmpFilePath, dstFilePath, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static boolean prepareDstFile(
+			final String dstFilePathString,
+			final boolean dstFileExists,
+			final boolean verboseError) {
+
+		final boolean keepGoing;
+		if (dstFileExists) {
+			keepGoing = FactoryReadOnlyFlagClearer.getInstance()
+					.clearReadOnlyFlagFileNoChecks(dstFilePathString, false, verboseError);
+		} else {
+			keepGoing = FactoryFolderCreator.getInstance()
+					.createParentDirectories(dstFilePathString, false, verboseError);
+		}
+		return keepGoing;
+	}
+
+	private static void copyBasicFileAttributes(
+			final Path srcFilePath,
+			final Path dstFilePath) throws IOException {
+
+		final BasicFileAttributes basicFileAttributes =
+				Files.readAttributes(srcFilePath, BasicFileAttributes.class);
+		Files.getFileAttributeView(dstFilePath, BasicFileAttributeView.class).setTimes(
+				basicFileAttributes.lastModifiedTime(), basicFileAttributes.lastAccessTime(),
+				basicFileAttributes.creationTime());
+	}
+
 	@Override
 	public String toString() {
 		return StrUtils.reflectionToString(this);
@@ -19,4 +19,15 @@ public final class FactoryFolderCopier {
 			final FolderCopier instance) {
 		FactoryFolderCopier.instance = instance;
 	}
+
+	/**
+	 * @param threadCount
+	 *            the maximum number of files that are copied at the same time
+	 * @return a folder copier that copies the files of a folder concurrently
+	 */
+	@ApiMethod
+	public static FolderCopier newParallelInstance(
+			final int threadCount) {
+		return new FolderCopierParallel(threadCount);
+	}
 }
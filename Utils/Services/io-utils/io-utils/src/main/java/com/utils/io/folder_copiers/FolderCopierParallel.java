@@ -0,0 +1,256 @@
+package com.utils.io.folder_copiers;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import com.utils.annotations.ApiMethod;
+import com.utils.concurrency.no_progress.ConcurrencyUtilsSimpleRegular;
+import com.utils.io.file_copiers.FactoryFileCopier;
+import com.utils.io.folder_creators.FactoryFolderCreator;
+import com.utils.io.folder_deleters.FactoryFolderDeleter;
+import com.utils.log.Logger;
+import com.utils.string.StrUtils;
+
+/**
+ * Walks the source folder, creates all the destination directories and then copies the files concurrently, with
+ * at most {@link #threadCount} copies in progress at any time. A file or a folder that cannot be read or copied is
+ * reported at the end and does not stop the copy of the other ones.
+ */
+class FolderCopierParallel implements FolderCopier {
+
+	private final int threadCount;
+
+	FolderCopierParallel(
+			final int threadCount) {
+
+		this.threadCount = threadCount;
+	}
+
+	@ApiMethod
+	@Override
+	public boolean copyFolder(
+			final String srcFolderPathString,
+			final String dstFolderPathString,
+			final boolean deleteDirectoryBeforeCopying,
+			final boolean verboseProgress,
+			final boolean verboseError) {
+
+		boolean success = false;
+		try {
+			final boolean keepGoing;
+			if (deleteDirectoryBeforeCopying) {
+				keepGoing = FactoryFolderDeleter.getInstance()
+						.deleteFolder(dstFolderPathString, verboseProgress, verboseError);
+			} else {
+				keepGoing = true;
+			}
+			if (keepGoing) {
+
+				if (verboseProgress) {
+
+					Logger.printProgress("copying folder in parallel:");
+					Logger.printLine(srcFolderPathString);
+					Logger.printLine("to:");
+					Logger.printLine(dstFolderPathString);
+				}
+
+				final Path srcFolderPath = Paths.get(srcFolderPathString);
+				final Path dstFolderPath = Paths.get(dstFolderPathString);
+
+				final List<DirectoryEntry> directoryEntryList = new ArrayList<>();
+				final List<Path> filePathList = new ArrayList<>();
+				final Queue<Path> failedPathQueue = new ConcurrentLinkedQueue<>();
+				walkSrcFolder(srcFolderPath, directoryEntryList, filePathList, failedPathQueue);
+
+				final boolean createDirectoriesSuccess =
+						createDirectories(srcFolderPath, dstFolderPath, directoryEntryList, verboseError);
+				if (createDirectoriesSuccess) {
+
+					copyFiles(srcFolderPath, dstFolderPath, filePathList, failedPathQueue, verboseError);
+					setDirectoryTimes(srcFolderPath, dstFolderPath, directoryEntryList);
+					success = checkFailedPaths(failedPathQueue, verboseError);
+				}
+			}
+
+		} catch (final Exception exc) {
+			Logger.printException(exc);
+		}
+
+		if (!success) {
+			if (verboseError) {
+				Logger.printError("failed to copy folder " +
+						System.lineSeparator() + srcFolderPathString +
+						System.lineSeparator() + "to:" +
+						System.lineSeparator() + dstFolderPathString);
+			}
+		}
+
+		return success;
+	}
+
+	/**
+	 * An entry that cannot be read is recorded as failed and the walk goes on with the other entries.
+	 */
+	private static void walkSrcFolder(
+			final Path srcFolderPath,
+			final List<DirectoryEntry> directoryEntryList,
+			final List<Path> filePathList,
+			final Queue<Path> failedPathQueue) throws IOException {
+
+		Files.walkFileTree(srcFolderPath, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(
+					final Path dir,
+					final BasicFileAttributes attrs) {
+
+				directoryEntryList.add(new DirectoryEntry(dir, attrs.lastModifiedTime()));
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(
+					final Path filePath,
+					final BasicFileAttributes attrs) {
+
+				filePathList.add(filePath);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(
+					final Path path,
+					final IOException exc) {
+
+				Logger.printException(exc);
+				failedPathQueue.add(path);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(
+					final Path dir,
+					final IOException exc) {
+
+				if (exc != null) {
+
+					Logger.printException(exc);
+					failedPathQueue.add(dir);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * The directories are created in the order in which they were visited, so every parent exists before its
+	 * children and the file copies never race to create the same directory.
+	 */
+	private static boolean createDirectories(
+			final Path srcFolderPath,
+			final Path dstFolderPath,
+			final List<DirectoryEntry> directoryEntryList,
+			final boolean verboseError) {
+
+		boolean success = true;
+		for (final DirectoryEntry directoryEntry : directoryEntryList) {
+
+			final Path dstDirectoryPath = computeDstPath(srcFolderPath, dstFolderPath, directoryEntry.path());
+			success = FactoryFolderCreator.getInstance()
+					.createDirectories(dstDirectoryPath.toString(), false, verboseError);
+			if (!success) {
+				break;
+			}
+		}
+		return success;
+	}
+
+	private void copyFiles(
+			final Path srcFolderPath,
+			final Path dstFolderPath,
+			final List<Path> filePathList,
+			final Queue<Path> failedPathQueue,
+			final boolean verboseError) {
+
+		final Stream<Runnable> runnableStream = filePathList.stream().map(filePath -> () -> {
+
+			final Path dstFilePath = computeDstPath(srcFolderPath, dstFolderPath, filePath);
+			final boolean copyFileSuccess = FactoryFileCopier.getInstance()
+					.copyFile(filePath.toString(), dstFilePath.toString(), true, false, verboseError);
+			if (!copyFileSuccess) {
+				failedPathQueue.add(filePath);
+			}
+		});
+		new ConcurrencyUtilsSimpleRegular(threadCount).executeMultiThreadedTask(runnableStream,
+				(completedTaskCount, throwable) -> {
+				});
+	}
+
+	private static boolean checkFailedPaths(
+			final Queue<Path> failedPathQueue,
+			final boolean verboseError) {
+
+		final boolean success = failedPathQueue.isEmpty();
+		if (!success) {
+			if (verboseError) {
+
+				Logger.printError("failed to read or copy " + failedPathQueue.size() + " paths:");
+				for (final Path failedPath : failedPathQueue) {
+					Logger.printLine(failedPath.toString());
+				}
+			}
+		}
+		return success;
+	}
+
+	/**
+	 * Copying the files into the directories updated their modification times, so the times of the source
+	 * directories are restored only after all the files are copied.
+	 */
+	private static void setDirectoryTimes(
+			final Path srcFolderPath,
+			final Path dstFolderPath,
+			final List<DirectoryEntry> directoryEntryList) {
+
+		for (final DirectoryEntry directoryEntry : directoryEntryList) {
+
+			final Path dstDirectoryPath = computeDstPath(srcFolderPath, dstFolderPath, directoryEntry.path());
+			try {
+				Files.setLastModifiedTime(dstDirectoryPath, directoryEntry.lastModifiedTime());
+
+			} catch (final Exception exc) {
+				Logger.printException(exc);
+			}
+		}
+	}
+
+	private static Path computeDstPath(
+			final Path srcFolderPath,
+			final Path dstFolderPath,
+			final Path srcPath) {
+
+		final Path relativePath = srcFolderPath.relativize(srcPath);
+		return dstFolderPath.resolve(relativePath.toString());
+	}
+
+	@Override
+	public String toString() {
+		return StrUtils.reflectionToString(this);
+	}
+
+	private record DirectoryEntry(
+			Path path,
+			FileTime lastModifiedTime) {
+	}
+}
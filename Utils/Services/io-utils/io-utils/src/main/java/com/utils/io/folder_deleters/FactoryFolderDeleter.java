@@ -19,4 +19,15 @@ public final class FactoryFolderDeleter {
 			final FolderDeleter instance) {
 		FactoryFolderDeleter.instance = instance;
 	}
+
+	/**
+	 * @param threadCount
+	 *            the number of threads that list the folders and delete the files
+	 * @return a folder deleter that deletes the contents of a folder concurrently
+	 */
+	@ApiMethod
+	public static FolderDeleter newParallelInstance(
+			final int threadCount) {
+		return new FolderDeleterParallel(threadCount);
+	}
 }
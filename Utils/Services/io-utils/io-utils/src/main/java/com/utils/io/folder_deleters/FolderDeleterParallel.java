@@ -0,0 +1,304 @@
+package com.utils.io.folder_deleters;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.utils.annotations.ApiMethod;
+import com.utils.io.IoUtils;
+import com.utils.log.Logger;
+import com.utils.string.StrUtils;
+
+/**
+ * Deletes the contents of a folder on a dedicated fork/join pool. Every directory is listed by its own task, its
+ * files are deleted in batches by parallel tasks and the directory itself is deleted only after all of its children
+ * are gone. Instead of logging every deleted path, the number of deleted files and folders is reported at the end.
+ */
+class FolderDeleterParallel implements FolderDeleter {
+
+	private static final int FILE_BATCH_SIZE = 256;
+
+	private final int threadCount;
+
+	FolderDeleterParallel(
+			final int threadCount) {
+
+		this.threadCount = threadCount;
+	}
+
+	@Override
+	@ApiMethod
+	public boolean deleteFolder(
+			final String folderPathString,
+			final boolean verboseProgress,
+			final boolean verboseError) {
+
+		final boolean success;
+		if (IoUtils.directoryExists(folderPathString)) {
+			success = deleteFolderNoChecks(folderPathString, verboseProgress, verboseError);
+		} else {
+			success = true;
+		}
+		return success;
+	}
+
+	@Override
+	@ApiMethod
+	public boolean deleteFolderNoChecks(
+			final String folderPathString,
+			final boolean verboseProgress,
+			final boolean verboseError) {
+
+		if (verboseProgress) {
+
+			Logger.printProgress("deleting folder in parallel:");
+			Logger.printLine(folderPathString);
+		}
+
+		final boolean success = deleteFolderContents(folderPathString, true, verboseProgress, verboseError);
+
+		if (!success) {
+			if (verboseError) {
+				Logger.printError("failed to delete folder:" +
+						System.lineSeparator() + folderPathString);
+			}
+		}
+
+		return success;
+	}
+
+	@Override
+	@ApiMethod
+	public boolean cleanFolder(
+			final String folderPathString,
+			final boolean verboseProgress,
+			final boolean verboseError) {
+
+		final boolean success;
+		if (IoUtils.directoryExists(folderPathString)) {
+			success = cleanFolderNoChecks(folderPathString, verboseProgress, verboseError);
+		} else {
+			success = true;
+		}
+		return success;
+	}
+
+	@Override
+	@ApiMethod
+	public boolean cleanFolderNoChecks(
+			final String folderPathString,
+			final boolean verboseProgress,
+			final boolean verboseError) {
+
+		if (verboseProgress) {
+
+			Logger.printProgress("cleaning folder in parallel:");
+			Logger.printLine(folderPathString);
+		}
+
+		final boolean success = deleteFolderContents(folderPathString, false, verboseProgress, verboseError);
+
+		if (!success) {
+			if (verboseError) {
+				Logger.printError("failed to clean folder:" +
+						System.lineSeparator() + folderPathString);
+			}
+		}
+
+		return success;
+	}
+
+	private boolean deleteFolderContents(
+			final String folderPathString,
+			final boolean deleteFolder,
+			final boolean verboseProgress,
+			final boolean verboseError) {
+
+		final DeletionCounts deletionCounts = new DeletionCounts();
+		try (ForkJoinPool forkJoinPool = new ForkJoinPool(threadCount)) {
+
+			final Path folderPath = Paths.get(folderPathString);
+			forkJoinPool.invoke(new DirectoryDeleteTask(folderPath, deleteFolder, deletionCounts));
+
+		} catch (final Exception exc) {
+			deletionCounts.recordFailure(exc);
+		}
+
+		final long failedPathCount = deletionCounts.failedPathCount.sum();
+		if (verboseProgress) {
+			Logger.printLine("deleted " + deletionCounts.deletedFileCount.sum() + " files and " +
+					deletionCounts.deletedFolderCount.sum() + " folders");
+		}
+		if (failedPathCount > 0 && verboseError) {
+
+			Logger.printWarning("failed to delete " + failedPathCount + " paths, the first failure being:");
+			Logger.printException(deletionCounts.firstException.get());
+		}
+		return failedPathCount == 0;
+	}
+
+	/**
+	 * On Windows, a file with the read-only flag set cannot be deleted, so the flag is cleared only for the files
+	 * that fail to be deleted, which spares one round trip for every other file.
+	 */
+	private static void deletePath(
+			final Path path) throws IOException {
+
+		try {
+			Files.delete(path);
+
+		} catch (final AccessDeniedException exc) {
+			try {
+				Files.setAttribute(path, "dos:readonly", false);
+
+			} catch (final Exception readOnlyExc) {
+				exc.addSuppressed(readOnlyExc);
+				throw exc;
+			}
+			Files.delete(path);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return StrUtils.reflectionToString(this);
+	}
+
+	private static final class DeletionCounts {
+
+		private final LongAdder deletedFileCount;
+		private final LongAdder deletedFolderCount;
+		private final LongAdder failedPathCount;
+		private final AtomicReference<Exception> firstException;
+
+		DeletionCounts() {
+
+			deletedFileCount = new LongAdder();
+			deletedFolderCount = new LongAdder();
+			failedPathCount = new LongAdder();
+			firstException = new AtomicReference<>();
+		}
+
+		void recordFailure(
+				final Exception exc) {
+
+			failedPathCount.increment();
+			firstException.compareAndSet(null, exc);
+		}
+	}
+
+	/**
+	 * Returns true if all the contents of the directory, and the directory itself if requested, were deleted.
+	 */
+	private static final class DirectoryDeleteTask extends RecursiveTask<Boolean> {
+
+		private final Path dirPath;
+		private final boolean deleteDirectory;
+		private final DeletionCounts deletionCounts;
+
+		DirectoryDeleteTask(
+				final Path dirPath,
+				final boolean deleteDirectory,
+				final DeletionCounts deletionCounts) {
+
+			this.dirPath = dirPath;
+			this.deleteDirectory = deleteDirectory;
+			this.deletionCounts = deletionCounts;
+		}
+
+		@Override
+		protected Boolean compute() {
+
+			boolean success = false;
+			final List<RecursiveTask<Boolean>> subTaskList = new ArrayList<>();
+			try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(dirPath)) {
+
+				List<Path> filePathBatch = new ArrayList<>();
+				for (final Path path : directoryStream) {
+
+					if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+						subTaskList.add(new DirectoryDeleteTask(path, true, deletionCounts));
+
+					} else {
+						filePathBatch.add(path);
+						if (filePathBatch.size() == FILE_BATCH_SIZE) {
+
+							subTaskList.add(new FileBatchDeleteTask(filePathBatch, deletionCounts));
+							filePathBatch = new ArrayList<>();
+						}
+					}
+				}
+				if (!filePathBatch.isEmpty()) {
+					subTaskList.add(new FileBatchDeleteTask(filePathBatch, deletionCounts));
+				}
+				success = true;
+
+			} catch (final Exception exc) {
+				deletionCounts.recordFailure(exc);
+			}
+
+			for (final RecursiveTask<Boolean> subTask : ForkJoinTask.invokeAll(subTaskList)) {
+				success &= subTask.join();
+			}
+
+			if (success && deleteDirectory) {
+
+				try {
+					deletePath(dirPath);
+					deletionCounts.deletedFolderCount.increment();
+
+				} catch (final Exception exc) {
+					deletionCounts.recordFailure(exc);
+					success = false;
+				}
+			}
+			return success;
+		}
+	}
+
+	/**
+	 * Returns true if all the files of the batch were deleted.
+	 */
+	private static final class FileBatchDeleteTask extends RecursiveTask<Boolean> {
+
+		private final List<Path> filePathList;
+		private final DeletionCounts deletionCounts;
+
+		FileBatchDeleteTask(
+				final List<Path> filePathList,
+				final DeletionCounts deletionCounts) {
+
+			this.filePathList = filePathList;
+			this.deletionCounts = deletionCounts;
+		}
+
+		@Override
+		protected Boolean compute() {
+
+			boolean success = true;
+			for (final Path filePath : filePathList) {
+
+				try {
+					deletePath(filePath);
+					deletionCounts.deletedFileCount.increment();
+
+				} catch (final Exception exc) {
+					deletionCounts.recordFailure(exc);
+					success = false;
+				}
+			}
+			return success;
+		}
+	}
+}
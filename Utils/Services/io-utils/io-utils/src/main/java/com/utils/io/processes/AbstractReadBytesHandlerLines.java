@@ -17,16 +17,40 @@ public abstract class AbstractReadBytesHandlerLines implements ReadBytesHandler
 
 		final char ch = (char) intByte;
 		if (ch == '\r' || ch == '\n') {
+			flushLine();
+		} else {
+			stringBuilder.append(ch);
+		}
+	}
+
+	@Override
+	public void handleReadChars(
+			final char[] chars,
+			final int offset,
+			final int length) {
+
+		final int end = offset + length;
+		int lineStart = offset;
+		for (int i = offset; i < end; i++) {
 
-			if (!stringBuilder.isEmpty()) {
+			final char ch = chars[i];
+			if (ch == '\r' || ch == '\n') {
 
-				final String line = stringBuilder.toString();
-				handleLine(line);
-				stringBuilder.setLength(0);
+				stringBuilder.append(chars, lineStart, i - lineStart);
+				flushLine();
+				lineStart = i + 1;
 			}
+		}
+		stringBuilder.append(chars, lineStart, end - lineStart);
+	}
 
-		} else {
-			stringBuilder.append(ch);
+	private void flushLine() {
+
+		if (!stringBuilder.isEmpty()) {
+
+			final String line = stringBuilder.toString();
+			handleLine(line);
+			stringBuilder.setLength(0);
 		}
 	}
 
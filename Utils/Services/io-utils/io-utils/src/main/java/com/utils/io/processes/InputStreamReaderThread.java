@@ -8,6 +8,8 @@ import com.utils.log.Logger;
 
 public class InputStreamReaderThread extends Thread {
 
+	private static final int BUFFER_SIZE = 8192;
+
 	private final InputStream inputStream;
 	private final Charset charset;
 	private final ReadBytesHandler readBytesHandler;
@@ -30,9 +32,10 @@ public class InputStreamReaderThread extends Thread {
 
 		try (InputStreamReader inputStreamReader = new InputStreamReader(inputStream, charset)) {
 
-			int intByte;
-			while ((intByte = inputStreamReader.read()) != -1) {
-				readBytesHandler.handleReadByte(intByte);
+			final char[] buffer = new char[BUFFER_SIZE];
+			int readCharCount;
+			while ((readCharCount = inputStreamReader.read(buffer)) != -1) {
+				readBytesHandler.handleReadChars(buffer, 0, readCharCount);
 			}
 
 		} catch (final Exception exc) {
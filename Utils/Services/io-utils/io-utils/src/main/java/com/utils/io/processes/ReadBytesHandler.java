@@ -6,4 +6,18 @@ public interface ReadBytesHandler {
 
 	void handleReadByte(
 			int intByte) throws IOException;
+
+	/**
+	 * Called with every chunk read from the input stream. Handlers that can work on a whole chunk at once should
+	 * override it, the default implementation passes the characters one by one to {@link #handleReadByte(int)}.
+	 */
+	default void handleReadChars(
+			final char[] chars,
+			final int offset,
+			final int length) throws IOException {
+
+		for (int i = offset; i < offset + length; i++) {
+			handleReadByte(chars[i]);
+		}
+	}
 }
@@ -20,6 +20,16 @@ public class ReadBytesHandlerByteArray implements ReadBytesHandler {
 		byteArrayOutputStream.write(intByte);
 	}
 
+	@Override
+	public void handleReadChars(
+			final char[] chars,
+			final int offset,
+			final int length) {
+
+		final byte[] bytes = ReadBytesHandlerUtils.toBytes(chars, offset, length);
+		byteArrayOutputStream.write(bytes, 0, length);
+	}
+
 	public String getString(
 			final Charset charset) {
 
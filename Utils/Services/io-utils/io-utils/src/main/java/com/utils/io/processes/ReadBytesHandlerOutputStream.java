@@ -22,6 +22,16 @@ public class ReadBytesHandlerOutputStream implements ReadBytesHandler {
 		outputStream.write(intByte);
 	}
 
+	@Override
+	public void handleReadChars(
+			final char[] chars,
+			final int offset,
+			final int length) throws IOException {
+
+		final byte[] bytes = ReadBytesHandlerUtils.toBytes(chars, offset, length);
+		outputStream.write(bytes, 0, length);
+	}
+
 	public void closeStream() {
 
 		try {
@@ -0,0 +1,22 @@
+package com.utils.io.processes;
+
+final class ReadBytesHandlerUtils {
+
+	private ReadBytesHandlerUtils() {
+	}
+
+	/**
+	 * Keeps the low byte of every character, the same as writing the characters one by one to an output stream.
+	 */
+	static byte[] toBytes(
+			final char[] chars,
+			final int offset,
+			final int length) {
+
+		final byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) chars[offset + i];
+		}
+		return bytes;
+	}
+}
@@ -3,6 +3,9 @@ package com.utils.crypt;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import java.util.Properties;
 
 import javax.crypto.Cipher;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import com.utils.io.ReaderUtils;
 import com.utils.io.StreamUtils;
+import com.utils.io.folder_deleters.FactoryFolderDeleter;
 import com.utils.log.Logger;
 
 class EncryptionUtilsTest {
@@ -111,4 +115,28 @@ class EncryptionUtilsTest {
 		final String decryptedValue = decryptedProperties.getProperty(key);
 		Assertions.assertEquals(value, decryptedValue);
 	}
+
+	@Test
+	void testEncryptAndDecryptFileStreaming() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("encryption_utils_test_");
+		try {
+			final byte[] bytes = new byte[1024 * 1024 + 5];
+			new Random(0).nextBytes(bytes);
+			final Path inputFilePath = Files.write(folderPath.resolve("test.bin"), bytes);
+			final Path encryptedFilePath = folderPath.resolve("test.encrypted");
+			final Path decryptedFilePath = folderPath.resolve("test_decrypted.bin");
+
+			Assertions.assertTrue(EncryptionUtils.encryptFile(
+					inputFilePath.toString(), encryptedFilePath.toString()));
+			Assertions.assertArrayEquals(EncryptionUtils.encrypt(bytes), Files.readAllBytes(encryptedFilePath));
+
+			Assertions.assertTrue(EncryptionUtils.decryptFile(
+					encryptedFilePath.toString(), decryptedFilePath.toString()));
+			Assertions.assertArrayEquals(bytes, Files.readAllBytes(decryptedFilePath));
+
+		} finally {
+			FactoryFolderDeleter.getInstance().deleteFolder(folderPath.toString(), false, true);
+		}
+	}
 }
@@ -1,11 +1,21 @@
 package com.utils.io;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.utils.io.folder_deleters.FactoryFolderDeleter;
 import com.utils.log.Logger;
+import com.utils.string.regex.glob.GlobRegexMatcher;
 
 class ListFileUtilsTest {
 
@@ -72,4 +82,103 @@ class ListFileUtilsTest {
 			Logger.printLine(filePathString);
 		}
 	}
+
+	@Test
+	void testVisitFilesRecursivelyParallel() throws Exception {
+
+		final Path rootDirPath = Files.createTempDirectory("list_file_utils_test_");
+		try {
+			for (int i = 0; i < 5; i++) {
+
+				final Path dirPath = Files.createDirectories(rootDirPath.resolve("dir_" + i).resolve("sub_dir"));
+				Files.writeString(dirPath.resolve("file_" + i + ".jpg"), "content");
+				Files.writeString(dirPath.resolve("file_" + i + ".txt"), "content");
+				Files.writeString(dirPath.getParent().resolve("file_" + i + ".JPG"), "content");
+			}
+			final String rootDirPathString = rootDirPath.toString();
+
+			final List<String> expectedPathStringList = new ArrayList<>();
+			ListFileUtils.visitFilesRecursively(rootDirPathString,
+					dirPath -> expectedPathStringList.add(dirPath.toString()),
+					filePath -> expectedPathStringList.add(filePath.toString()));
+
+			final List<String> orderedPathStringList = new ArrayList<>();
+			ListFileUtils.visitFilesRecursivelyParallel(rootDirPathString, Integer.MAX_VALUE, null, 4, true,
+					dirPath -> orderedPathStringList.add(dirPath.toString()),
+					filePath -> orderedPathStringList.add(filePath.toString()));
+			Assertions.assertEquals(expectedPathStringList, orderedPathStringList);
+
+			final Set<String> unorderedPathStringSet = ConcurrentHashMap.newKeySet();
+			ListFileUtils.visitFilesRecursivelyParallel(rootDirPathString, Integer.MAX_VALUE, null, 4, false,
+					dirPath -> unorderedPathStringSet.add(dirPath.toString()),
+					filePath -> unorderedPathStringSet.add(filePath.toString()));
+			Assertions.assertEquals(new HashSet<>(expectedPathStringList), unorderedPathStringSet);
+
+			final List<String[]> fileNamePatterns = GlobRegexMatcher.parseFilterPatterns("*.jpg");
+			final List<String> filteredPathStringList = new ArrayList<>();
+			ListFileUtils.visitFilesRecursivelyParallel(rootDirPathString, 2, fileNamePatterns, 4, true,
+					dirPath -> {
+					},
+					filePath -> filteredPathStringList.add(PathUtils.computeFileName(filePath)));
+			Assertions.assertEquals(
+					List.of("file_0.JPG", "file_1.JPG", "file_2.JPG", "file_3.JPG", "file_4.JPG"),
+					filteredPathStringList.stream().sorted().toList());
+
+		} finally {
+			FactoryFolderDeleter.getInstance().deleteFolder(rootDirPath.toString(), false, true);
+		}
+	}
+
+	@Test
+	void testVisitFilesRecursivelyParallelBlockingConsumer() throws Exception {
+
+		final Path rootDirPath = Files.createTempDirectory("list_file_utils_test_");
+		try {
+			final int dirCount = 400;
+			for (int i = 0; i < dirCount; i++) {
+
+				final Path dirPath = Files.createDirectories(rootDirPath.resolve("dir_" + i));
+				Files.writeString(dirPath.resolve("file_" + i + ".jpg"), "content");
+			}
+
+			final BlockingQueue<Path> filePathQueue = new ArrayBlockingQueue<>(4);
+			final Thread drainThread = new Thread(() -> {
+				try {
+					for (int i = 0; i < dirCount; i++) {
+
+						Thread.sleep(1);
+						filePathQueue.take();
+					}
+
+				} catch (final InterruptedException exc) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			drainThread.setDaemon(true);
+			drainThread.start();
+
+			final int threadCount = 4;
+			final Set<Thread> consumerThreadSet = ConcurrentHashMap.newKeySet();
+			ListFileUtils.visitFilesRecursivelyParallel(rootDirPath.toString(), Integer.MAX_VALUE, null,
+					threadCount, false,
+					dirPath -> consumerThreadSet.add(Thread.currentThread()),
+					filePath -> {
+						consumerThreadSet.add(Thread.currentThread());
+						try {
+							filePathQueue.put(filePath);
+
+						} catch (final InterruptedException exc) {
+							Thread.currentThread().interrupt();
+						}
+					});
+			drainThread.join(10_000);
+
+			Assertions.assertFalse(drainThread.isAlive());
+			Assertions.assertTrue(consumerThreadSet.size() <= threadCount,
+					"the consumers ran on " + consumerThreadSet.size() + " threads");
+
+		} finally {
+			FactoryFolderDeleter.getInstance().deleteFolder(rootDirPath.toString(), false, true);
+		}
+	}
 }
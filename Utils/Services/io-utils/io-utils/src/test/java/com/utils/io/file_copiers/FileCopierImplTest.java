@@ -0,0 +1,104 @@
+package com.utils.io.file_copiers;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.utils.io.folder_deleters.FactoryFolderDeleter;
+
+class FileCopierImplTest {
+
+	private static final int CHUNK_SIZE = 1024 * 1024;
+
+	@Test
+	void testCopyFileChunked() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("file_copier_test_");
+		try {
+			final byte[] bytes = new byte[3 * CHUNK_SIZE + 17];
+			new Random(0).nextBytes(bytes);
+			final Path srcFilePath = Files.write(folderPath.resolve("src.bin"), bytes);
+			final Path dstFilePath = folderPath.resolve("dst").resolve("dst.bin");
+
+			final FileCopierImpl fileCopier = new FileCopierImpl(CHUNK_SIZE);
+			final List<Long> transferredList = new ArrayList<>();
+			final boolean success = fileCopier.copyFileChunked(
+					srcFilePath.toString(), dstFilePath.toString(), true,
+					(totalRead, totalLength) -> transferredList.add(totalRead), () -> false, false, true);
+			Assertions.assertTrue(success);
+			Assertions.assertArrayEquals(bytes, Files.readAllBytes(dstFilePath));
+			Assertions.assertEquals(List.of(0L, (long) CHUNK_SIZE, 2L * CHUNK_SIZE, 3L * CHUNK_SIZE,
+					(long) bytes.length), transferredList);
+			Assertions.assertEquals(Files.getLastModifiedTime(srcFilePath), Files.getLastModifiedTime(dstFilePath));
+			assertNoTmpFiles(dstFilePath.getParent());
+
+		} finally {
+			FactoryFolderDeleter.getInstance().deleteFolder(folderPath.toString(), false, true);
+		}
+	}
+
+	@Test
+	void testCopyFileChunkedCancelled() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("file_copier_test_");
+		try {
+			final byte[] bytes = new byte[3 * CHUNK_SIZE + 17];
+			new Random(0).nextBytes(bytes);
+			final Path srcFilePath = Files.write(folderPath.resolve("src.bin"), bytes);
+			final byte[] oldDstBytes = "old content".getBytes(StandardCharsets.UTF_8);
+			final Path dstFilePath = Files.write(folderPath.resolve("dst.bin"), oldDstBytes);
+
+			final List<Long> transferredList = new ArrayList<>();
+			final boolean success = new FileCopierImpl(CHUNK_SIZE).copyFileChunked(
+					srcFilePath.toString(), dstFilePath.toString(), true,
+					(totalRead, totalLength) -> transferredList.add(totalRead),
+					() -> transferredList.size() > 2, false, true);
+			Assertions.assertFalse(success);
+			Assertions.assertEquals(List.of(0L, (long) CHUNK_SIZE, 2L * CHUNK_SIZE), transferredList);
+			Assertions.assertArrayEquals(oldDstBytes, Files.readAllBytes(dstFilePath));
+			assertNoTmpFiles(folderPath);
+
+		} finally {
+			FactoryFolderDeleter.getInstance().deleteFolder(folderPath.toString(), false, true);
+		}
+	}
+
+	@Test
+	void testCopyFileChunkedSameFile() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("file_copier_test_");
+		try {
+			final byte[] bytes = new byte[CHUNK_SIZE + 17];
+			new Random(0).nextBytes(bytes);
+			final Path srcFilePath = Files.write(folderPath.resolve("src.bin"), bytes);
+			final Path linkFilePath = Files.createLink(folderPath.resolve("link.bin"), srcFilePath);
+
+			final FileCopierImpl fileCopier = new FileCopierImpl(CHUNK_SIZE);
+			Assertions.assertTrue(fileCopier.copyFileChunked(srcFilePath.toString(), srcFilePath.toString(),
+					true, (totalRead, totalLength) -> {
+					}, () -> false, false, true));
+			Assertions.assertTrue(fileCopier.copyFileChunked(srcFilePath.toString(), linkFilePath.toString(),
+					true, (totalRead, totalLength) -> {
+					}, () -> false, false, true));
+			Assertions.assertArrayEquals(bytes, Files.readAllBytes(srcFilePath));
+
+		} finally {
+			FactoryFolderDeleter.getInstance().deleteFolder(folderPath.toString(), false, true);
+		}
+	}
+
+	private static void assertNoTmpFiles(
+			final Path folderPath) throws Exception {
+
+		try (Stream<Path> pathStream = Files.list(folderPath)) {
+			Assertions.assertTrue(pathStream.noneMatch(path -> path.toString().endsWith(".tmp")));
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.utils.io.folder_copiers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import com.utils.io.folder_deleters.FactoryFolderDeleter;
+
+class FolderCopierParallelTest {
+
+	@Test
+	void testCopyFolder() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("folder_copier_test_");
+		try {
+			final Path srcFolderPath = folderPath.resolve("src");
+			for (int i = 0; i < 20; i++) {
+
+				final Path filePath = srcFolderPath.resolve("dir" + i % 3).resolve("sub" + i % 2).resolve(i + ".txt");
+				Files.createDirectories(filePath.getParent());
+				Files.writeString(filePath, "content " + i);
+			}
+			Files.createDirectories(srcFolderPath.resolve("empty"));
+
+			final Path dstFolderPath = folderPath.resolve("dst");
+			final boolean success = new FolderCopierParallel(4).copyFolder(
+					srcFolderPath.toString(), dstFolderPath.toString(), true, false, true);
+			Assertions.assertTrue(success);
+
+			for (int i = 0; i < 20; i++) {
+
+				final Path relativeFilePath = Path.of("dir" + i % 3, "sub" + i % 2, i + ".txt");
+				Assertions.assertEquals("content " + i, Files.readString(dstFolderPath.resolve(relativeFilePath)));
+			}
+			Assertions.assertTrue(Files.isDirectory(dstFolderPath.resolve("empty")));
+			Assertions.assertEquals(Files.getLastModifiedTime(srcFolderPath.resolve("dir0")),
+					Files.getLastModifiedTime(dstFolderPath.resolve("dir0")));
+
+		} finally {
+			FactoryFolderDeleter.getInstance().deleteFolder(folderPath.toString(), false, true);
+		}
+	}
+
+	@Test
+	void testCopyFolderUnreadableEntry() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("folder_copier_test_");
+		try {
+			final Path srcFolderPath = folderPath.resolve("src");
+			Files.createDirectories(srcFolderPath.resolve("dir"));
+			Files.writeString(srcFolderPath.resolve("a.txt"), "a");
+			Files.writeString(srcFolderPath.resolve("dir").resolve("b.txt"), "b");
+			Files.createSymbolicLink(srcFolderPath.resolve("broken_link.txt"), folderPath.resolve("missing.txt"));
+
+			final Path dstFolderPath = folderPath.resolve("dst");
+			final boolean success = new FolderCopierParallel(4).copyFolder(
+					srcFolderPath.toString(), dstFolderPath.toString(), true, false, false);
+			Assertions.assertFalse(success);
+			Assertions.assertEquals("a", Files.readString(dstFolderPath.resolve("a.txt")));
+			Assertions.assertEquals("b", Files.readString(dstFolderPath.resolve("dir").resolve("b.txt")));
+
+		} finally {
+			FactoryFolderDeleter.getInstance().deleteFolder(folderPath.toString(), false, true);
+		}
+	}
+
+	/**
+	 * Skipped when the user can read the folder anyway, as the root user can.
+	 */
+	@Test
+	void testCopyFolderUnreadableFolder() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("folder_copier_test_");
+		final Path unreadableFolderPath = folderPath.resolve("src").resolve("unreadable");
+		try {
+			final Path srcFolderPath = folderPath.resolve("src");
+			Files.createDirectories(unreadableFolderPath);
+			Files.writeString(unreadableFolderPath.resolve("c.txt"), "c");
+			Files.writeString(srcFolderPath.resolve("a.txt"), "a");
+			Files.setPosixFilePermissions(unreadableFolderPath, Set.of());
+			Assumptions.assumeFalse(Files.isReadable(unreadableFolderPath));
+
+			final Path dstFolderPath = folderPath.resolve("dst");
+			final boolean success = new FolderCopierParallel(4).copyFolder(
+					srcFolderPath.toString(), dstFolderPath.toString(), true, false, false);
+			Assertions.assertFalse(success);
+			Assertions.assertEquals("a", Files.readString(dstFolderPath.resolve("a.txt")));
+
+		} finally {
+			Files.setPosixFilePermissions(unreadableFolderPath, PosixFilePermissions.fromString("rwx------"));
+			FactoryFolderDeleter.getInstance().deleteFolder(folderPath.toString(), false, true);
+		}
+	}
+}
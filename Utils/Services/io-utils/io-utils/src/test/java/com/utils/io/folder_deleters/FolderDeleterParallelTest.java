@@ -0,0 +1,41 @@
+package com.utils.io.folder_deleters;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FolderDeleterParallelTest {
+
+	@Test
+	void testDeleteFolder() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("folder_deleter_test_");
+		try {
+			for (int i = 0; i < 600; i++) {
+
+				final Path filePath = folderPath.resolve("dir" + i % 3).resolve("sub" + i % 2).resolve(i + ".txt");
+				Files.createDirectories(filePath.getParent());
+				Files.writeString(filePath, "content " + i);
+			}
+			Files.createDirectories(folderPath.resolve("empty"));
+			Files.writeString(folderPath.resolve("root.txt"), "root");
+
+			final FolderDeleter folderDeleter = new FolderDeleterParallel(4);
+			Assertions.assertTrue(folderDeleter.cleanFolder(folderPath.toString(), true, true));
+			Assertions.assertTrue(Files.isDirectory(folderPath));
+			try (Stream<Path> pathStream = Files.list(folderPath)) {
+				Assertions.assertEquals(0, pathStream.count());
+			}
+
+			Files.writeString(folderPath.resolve("root.txt"), "root");
+			Assertions.assertTrue(folderDeleter.deleteFolder(folderPath.toString(), false, true));
+			Assertions.assertFalse(Files.exists(folderPath));
+
+		} finally {
+			new FolderDeleterImpl().deleteFolder(folderPath.toString(), false, true);
+		}
+	}
+}
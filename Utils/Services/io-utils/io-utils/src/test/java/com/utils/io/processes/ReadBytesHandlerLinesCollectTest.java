@@ -0,0 +1,58 @@
+package com.utils.io.processes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+class ReadBytesHandlerLinesCollectTest {
+
+	@TestFactory
+	List<DynamicTest> testHandleReadChars() {
+
+		final List<DynamicTest> dynamicTestList = new ArrayList<>();
+		final List<Integer> testCaseList = Arrays.asList(0, 1, 2, 3, 4);
+		if (testCaseList.contains(1)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("1 (one chunk)",
+					() -> testHandleReadCharsCommon("abc\r\ndef\nghi", 100,
+							List.of("abc", "def", "ghi"))));
+		}
+		if (testCaseList.contains(2)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("2 (line split across chunks)",
+					() -> testHandleReadCharsCommon("abcdef\r\nghijkl\n", 4,
+							List.of("abcdef", "ghijkl"))));
+		}
+		if (testCaseList.contains(3)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("3 (line break split across chunks)",
+					() -> testHandleReadCharsCommon("abc\r\n\r\ndef", 4,
+							List.of("abc", "def"))));
+		}
+		if (testCaseList.contains(4)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("4 (one char per chunk)",
+					() -> testHandleReadCharsCommon("ab\ncd\r\n", 1,
+							List.of("ab", "cd"))));
+		}
+		return dynamicTestList;
+	}
+
+	private static void testHandleReadCharsCommon(
+			final String input,
+			final int chunkSize,
+			final List<String> expectedLineList) {
+
+		final ReadBytesHandlerLinesCollect readBytesHandlerLinesCollect = new ReadBytesHandlerLinesCollect();
+		final char[] chars = input.toCharArray();
+		for (int offset = 0; offset < chars.length; offset += chunkSize) {
+
+			final int length = Math.min(chunkSize, chars.length - offset);
+			readBytesHandlerLinesCollect.handleReadChars(chars, offset, length);
+		}
+		readBytesHandlerLinesCollect.handleReadByte('\n');
+
+		final List<String> lineList = readBytesHandlerLinesCollect.getLineList();
+		Assertions.assertEquals(expectedLineList, lineList);
+	}
+}
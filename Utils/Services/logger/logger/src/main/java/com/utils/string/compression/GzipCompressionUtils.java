@@ -2,13 +2,30 @@ package com.utils.string.compression;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 import com.utils.annotations.ApiMethod;
+import com.utils.log.Logger;
 
 public final class GzipCompressionUtils {
 
+	private static final int BUFFER_SIZE = 256 * 1024;
+	private static final int PARALLEL_BLOCK_SIZE = 1024 * 1024;
+
 	private GzipCompressionUtils() {
 	}
 
@@ -39,14 +56,9 @@ public final class GzipCompressionUtils {
 		byte[] decompressedData = null;
 		if (compressedData != null) {
 
-			try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressedData));
-					ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
+			try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(compressedData.length)) {
 
-				final byte[] buffer = new byte[1024];
-				int len;
-				while ((len = gzipInputStream.read(buffer)) != -1) {
-					byteArrayOutputStream.write(buffer, 0, len);
-				}
+				decompressStream(new ByteArrayInputStream(compressedData), byteArrayOutputStream);
 				decompressedData = byteArrayOutputStream.toByteArray();
 
 			} catch (final Exception ignored) {
@@ -54,4 +66,228 @@ public final class GzipCompressionUtils {
 		}
 		return decompressedData;
 	}
+
+	/**
+	 * @param level
+	 *            the deflate level, from {@link java.util.zip.Deflater#NO_COMPRESSION} to
+	 *            {@link java.util.zip.Deflater#BEST_COMPRESSION}, or {@link java.util.zip.Deflater#DEFAULT_COMPRESSION}
+	 * @param threadCount
+	 *            if greater than 1, the file is compressed in parallel, as in
+	 *            {@link #compressStreamParallel(InputStream, OutputStream, int, int)}
+	 * @return true if the file was compressed, false otherwise
+	 */
+	@ApiMethod
+	public static boolean compressFile(
+			final String inputFilePathString,
+			final String outputFilePathString,
+			final int level,
+			final int threadCount) {
+
+		boolean success = false;
+		try {
+			final Path inputFilePath = Paths.get(inputFilePathString);
+			final Path outputFilePath = Paths.get(outputFilePathString);
+			try (InputStream inputStream = Files.newInputStream(inputFilePath);
+					OutputStream outputStream = Files.newOutputStream(outputFilePath)) {
+
+				if (threadCount > 1) {
+					compressStreamParallel(inputStream, outputStream, level, threadCount);
+				} else {
+					compressStream(inputStream, outputStream, level);
+				}
+			}
+			success = true;
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to compress file:" +
+					System.lineSeparator() + inputFilePathString);
+			Logger.printException(exc);
+		}
+		return success;
+	}
+
+	/**
+	 * @return true if the file was decompressed, false otherwise
+	 */
+	@ApiMethod
+	public static boolean decompressFile(
+			final String inputFilePathString,
+			final String outputFilePathString) {
+
+		boolean success = false;
+		try {
+			final Path inputFilePath = Paths.get(inputFilePathString);
+			final Path outputFilePath = Paths.get(outputFilePathString);
+			try (InputStream inputStream = Files.newInputStream(inputFilePath);
+					OutputStream outputStream = Files.newOutputStream(outputFilePath)) {
+
+				decompressStream(inputStream, outputStream);
+			}
+			success = true;
+
+		} catch (final Exception exc) {
+			Logger.printError("failed to decompress file:" +
+					System.lineSeparator() + inputFilePathString);
+			Logger.printException(exc);
+		}
+		return success;
+	}
+
+	/**
+	 * Compresses the input stream into a single gzip member, in constant memory. The streams are not closed.
+	 *
+	 * @param level
+	 *            the deflate level, from {@link java.util.zip.Deflater#NO_COMPRESSION} to
+	 *            {@link java.util.zip.Deflater#BEST_COMPRESSION}, or {@link java.util.zip.Deflater#DEFAULT_COMPRESSION}
+	 */
+	@ApiMethod
+	public static void compressStream(
+			final InputStream inputStream,
+			final OutputStream outputStream,
+			final int level) throws IOException {
+
+		final GzipOutputStreamWithLevel gzipOutputStream = new GzipOutputStreamWithLevel(outputStream, level);
+		try {
+			copyStream(inputStream, gzipOutputStream);
+			gzipOutputStream.finish();
+
+		} finally {
+			gzipOutputStream.end();
+		}
+	}
+
+	/**
+	 * Splits the input stream into blocks of 1 MB and compresses every block into an independent gzip member, on
+	 * the given number of threads, the same as pigz with independent blocks. The members are written in the order
+	 * of the blocks, and concatenated they form a valid gzip stream that any gzip reader decompresses into the
+	 * original content; the output is only slightly larger than with a single member. At most two blocks per thread
+	 * are held in memory. The streams are not closed.
+	 *
+	 * @param level
+	 *            the deflate level, from {@link java.util.zip.Deflater#NO_COMPRESSION} to
+	 *            {@link java.util.zip.Deflater#BEST_COMPRESSION}, or {@link java.util.zip.Deflater#DEFAULT_COMPRESSION}
+	 */
+	@ApiMethod
+	public static void compressStreamParallel(
+			final InputStream inputStream,
+			final OutputStream outputStream,
+			final int level,
+			final int threadCount) throws IOException {
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		try {
+			final int inFlightLimit = 2 * threadCount;
+			final Deque<Future<byte[]>> futureDeque = new ArrayDeque<>();
+			boolean blockWritten = false;
+			boolean endOfInput = false;
+			while (!endOfInput) {
+
+				final byte[] block = inputStream.readNBytes(PARALLEL_BLOCK_SIZE);
+				endOfInput = block.length < PARALLEL_BLOCK_SIZE;
+				if (block.length > 0 || !blockWritten && futureDeque.isEmpty()) {
+					futureDeque.add(executorService.submit(() -> compressBlock(block, level)));
+				}
+
+				while (futureDeque.size() >= inFlightLimit || endOfInput && !futureDeque.isEmpty()) {
+
+					final byte[] compressedBlock = getCompressedBlock(futureDeque.remove());
+					outputStream.write(compressedBlock);
+					blockWritten = true;
+				}
+			}
+
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static byte[] compressBlock(
+			final byte[] block,
+			final int level) throws IOException {
+
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(block.length / 2 + 64);
+		try (GZIPOutputStream gzipOutputStream = new GzipOutputStreamWithLevel(byteArrayOutputStream, level)) {
+			gzipOutputStream.write(block);
+		}
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static byte[] getCompressedBlock(
+			final Future<byte[]> future) throws IOException {
+
+		try {
+			return future.get();
+
+		} catch (final InterruptedException exc) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while compressing");
+
+		} catch (final ExecutionException exc) {
+			throw new IOException("failed to compress block", exc.getCause());
+		}
+	}
+
+	/**
+	 * Decompresses the gzip input stream, including the streams made of several members, in constant memory. The
+	 * streams are not closed.
+	 */
+	@ApiMethod
+	public static void decompressStream(
+			final InputStream inputStream,
+			final OutputStream outputStream) throws IOException {
+
+		final GzipInputStreamWithEnd gzipInputStream = new GzipInputStreamWithEnd(inputStream);
+		try {
+			copyStream(gzipInputStream, outputStream);
+
+		} finally {
+			gzipInputStream.end();
+		}
+	}
+
+	private static void copyStream(
+			final InputStream inputStream,
+			final OutputStream outputStream) throws IOException {
+
+		final byte[] buffer = new byte[BUFFER_SIZE];
+		int len;
+		while ((len = inputStream.read(buffer)) != -1) {
+			outputStream.write(buffer, 0, len);
+		}
+	}
+
+	private static final class GzipOutputStreamWithLevel extends GZIPOutputStream {
+
+		GzipOutputStreamWithLevel(
+				final OutputStream outputStream,
+				final int level) throws IOException {
+
+			super(outputStream, BUFFER_SIZE);
+
+			def.setLevel(level);
+		}
+
+		/**
+		 * Releases the native memory of the deflater without closing the underlying stream.
+		 */
+		void end() {
+			def.end();
+		}
+	}
+
+	private static final class GzipInputStreamWithEnd extends GZIPInputStream {
+
+		GzipInputStreamWithEnd(
+				final InputStream inputStream) throws IOException {
+
+			super(inputStream, BUFFER_SIZE);
+		}
+
+		/**
+		 * Releases the native memory of the inflater without closing the underlying stream.
+		 */
+		void end() {
+			inf.end();
+		}
+	}
 }
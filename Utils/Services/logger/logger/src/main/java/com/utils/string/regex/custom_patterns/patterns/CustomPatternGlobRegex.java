@@ -16,10 +16,15 @@ public class CustomPatternGlobRegex extends CustomPatternUnixRegex {
 	public boolean checkMatchesSpecific(
 			final String string) {
 
+		final String regexPatternString = createRegexPatternString();
+		return RegexUtils.matchesPattern(string, regexPatternString, caseSensitive);
+	}
+
+	public String createRegexPatternString() {
+
 		final StringBuilder sbRegexPatternString = new StringBuilder();
 		appendRegexPattern(sbRegexPatternString);
-		final String regexPatternString = sbRegexPatternString.toString();
-		return RegexUtils.matchesPattern(string, regexPatternString, caseSensitive);
+		return sbRegexPatternString.toString();
 	}
 
 	@Override
@@ -0,0 +1,145 @@
+package com.utils.string.regex.glob;
+
+import java.util.regex.Pattern;
+
+import com.utils.string.StrUtils;
+import com.utils.string.regex.RegexUtils;
+import com.utils.string.regex.custom_patterns.patterns.CustomPatternGlobRegex;
+
+/**
+ * A glob pattern that is translated once. The patterns that are a literal, a literal followed by "*" or "*"
+ * followed by a literal, such as "*.jpg", are matched with plain string comparisons; all the other ones are compiled
+ * to a regex, the same as in {@link CustomPatternGlobRegex}. As with the regex, the case-insensitive comparisons only
+ * fold the case of the ASCII letters. Unlike in the regex, the "*" of the literal fast paths also matches line
+ * terminators, which do not occur in the file names and paths that the patterns are meant for.
+ */
+final class CompiledGlobPattern {
+
+	private static final String GLOB_SPECIAL_CHARS = "*?\\{}[]";
+
+	private enum Kind {
+		LITERAL,
+		PREFIX,
+		SUFFIX,
+		REGEX
+	}
+
+	private final Kind kind;
+	private final String literal;
+	private final boolean caseSensitive;
+	private final Pattern pattern;
+
+	private CompiledGlobPattern(
+			final Kind kind,
+			final String literal,
+			final boolean caseSensitive,
+			final Pattern pattern) {
+
+		this.kind = kind;
+		this.literal = literal;
+		this.caseSensitive = caseSensitive;
+		this.pattern = pattern;
+	}
+
+	static CompiledGlobPattern compile(
+			final String globPattern,
+			final boolean caseSensitive) {
+
+		final CompiledGlobPattern compiledGlobPattern;
+		final int length = globPattern.length();
+		if (isLiteral(globPattern, 0, length)) {
+			compiledGlobPattern = new CompiledGlobPattern(Kind.LITERAL, globPattern, caseSensitive, null);
+
+		} else if (length > 0 && globPattern.charAt(length - 1) == '*' &&
+				isLiteral(globPattern, 0, length - 1)) {
+			compiledGlobPattern = new CompiledGlobPattern(Kind.PREFIX,
+					globPattern.substring(0, length - 1), caseSensitive, null);
+
+		} else if (length > 0 && globPattern.charAt(0) == '*' &&
+				isLiteral(globPattern, 1, length)) {
+			compiledGlobPattern = new CompiledGlobPattern(Kind.SUFFIX,
+					globPattern.substring(1), caseSensitive, null);
+
+		} else {
+			final String regexPatternString =
+					new CustomPatternGlobRegex(globPattern, false, caseSensitive).createRegexPatternString();
+			final Pattern pattern = RegexUtils.tryCompile(regexPatternString, caseSensitive);
+			compiledGlobPattern = new CompiledGlobPattern(Kind.REGEX, null, caseSensitive, pattern);
+		}
+		return compiledGlobPattern;
+	}
+
+	private static boolean isLiteral(
+			final String globPattern,
+			final int beginIndex,
+			final int endIndex) {
+
+		boolean literal = true;
+		for (int i = beginIndex; i < endIndex; i++) {
+
+			if (GLOB_SPECIAL_CHARS.indexOf(globPattern.charAt(i)) >= 0) {
+				literal = false;
+				break;
+			}
+		}
+		return literal;
+	}
+
+	boolean matches(
+			final String text) {
+
+		final boolean matches;
+		if (text == null) {
+			matches = false;
+
+		} else if (kind == Kind.LITERAL) {
+			matches = text.length() == literal.length() && regionMatches(text, 0);
+
+		} else if (kind == Kind.PREFIX) {
+			matches = text.length() >= literal.length() && regionMatches(text, 0);
+
+		} else if (kind == Kind.SUFFIX) {
+			matches = text.length() >= literal.length() &&
+					regionMatches(text, text.length() - literal.length());
+
+		} else {
+			matches = RegexUtils.matchesPattern(text, pattern);
+		}
+		return matches;
+	}
+
+	private boolean regionMatches(
+			final String text,
+			final int textOffset) {
+
+		boolean matches = true;
+		for (int i = 0; i < literal.length(); i++) {
+
+			final char textChar = text.charAt(textOffset + i);
+			final char literalChar = literal.charAt(i);
+			if (textChar != literalChar &&
+					(caseSensitive || toAsciiLowerCase(textChar) != toAsciiLowerCase(literalChar))) {
+				matches = false;
+				break;
+			}
+		}
+		return matches;
+	}
+
+	private static char toAsciiLowerCase(
+			final char c) {
+
+		final char lowerCaseChar;
+		if (c >= 'A' && c <= 'Z') {
+			lowerCaseChar = (char) (c + ('a' - 'A'));
+		} else {
+			lowerCaseChar = c;
+		}
+		return lowerCaseChar;
+	}
+
+	@Override
+	public String toString() {
+		return StrUtils.reflectionToString(this);
+	}
+}
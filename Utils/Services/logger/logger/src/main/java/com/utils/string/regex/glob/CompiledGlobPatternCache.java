@@ -0,0 +1,50 @@
+package com.utils.string.regex.glob;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The compiled glob patterns, shared by all the threads and bounded to the most recently used ones. The patterns are
+ * compiled outside the lock, so a thread that compiles a new pattern does not block the lookups of the others.
+ */
+final class CompiledGlobPatternCache {
+
+	private static final int CAPACITY = 1024;
+
+	private static final Map<CacheKey, CompiledGlobPattern> COMPILED_GLOB_PATTERN_MAP =
+			new LinkedHashMap<>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(
+						final Map.Entry<CacheKey, CompiledGlobPattern> eldestEntry) {
+					return size() > CAPACITY;
+				}
+			};
+
+	private CompiledGlobPatternCache() {
+	}
+
+	static CompiledGlobPattern getCompiledGlobPattern(
+			final String globPattern,
+			final boolean caseSensitive) {
+
+		final CacheKey cacheKey = new CacheKey(globPattern, caseSensitive);
+		CompiledGlobPattern compiledGlobPattern;
+		synchronized (COMPILED_GLOB_PATTERN_MAP) {
+			compiledGlobPattern = COMPILED_GLOB_PATTERN_MAP.get(cacheKey);
+		}
+		if (compiledGlobPattern == null) {
+
+			compiledGlobPattern = CompiledGlobPattern.compile(globPattern, caseSensitive);
+			synchronized (COMPILED_GLOB_PATTERN_MAP) {
+				COMPILED_GLOB_PATTERN_MAP.putIfAbsent(cacheKey, compiledGlobPattern);
+			}
+		}
+		return compiledGlobPattern;
+	}
+
+	private record CacheKey(
+			String globPattern,
+			boolean caseSensitive) {
+	}
+}
@@ -0,0 +1,84 @@
+package com.utils.string.regex.glob;
+
+import java.util.List;
+
+import com.utils.string.StrUtils;
+
+/**
+ * The filter patterns parsed with {@link GlobRegexMatcher#parseFilterPatterns}, compiled once so that they can be
+ * matched against any number of texts, from any number of threads. A text matches if it matches all the patterns of
+ * any of the lines.
+ */
+public final class GlobFilterMatcher {
+
+	private final CompiledGlobPattern[][] compiledPatterns;
+
+	GlobFilterMatcher(
+			final CompiledGlobPattern[][] compiledPatterns) {
+
+		this.compiledPatterns = compiledPatterns;
+	}
+
+	static GlobFilterMatcher compile(
+			final List<String[]> patterns,
+			final boolean caseSensitive) {
+
+		CompiledGlobPattern[][] compiledPatterns = null;
+		if (patterns != null) {
+
+			compiledPatterns = new CompiledGlobPattern[patterns.size()][];
+			for (int i = 0; i < patterns.size(); i++) {
+
+				final String[] andPatterns = patterns.get(i);
+				compiledPatterns[i] = new CompiledGlobPattern[andPatterns.length];
+				for (int j = 0; j < andPatterns.length; j++) {
+					compiledPatterns[i][j] =
+							CompiledGlobPatternCache.getCompiledGlobPattern(andPatterns[j], caseSensitive);
+				}
+			}
+		}
+		return new GlobFilterMatcher(compiledPatterns);
+	}
+
+	public boolean matches(
+			final String text) {
+
+		boolean matches = false;
+		if (text != null) {
+
+			if (compiledPatterns == null) {
+				matches = true;
+
+			} else {
+				for (final CompiledGlobPattern[] andPatterns : compiledPatterns) {
+
+					if (matchesAndPatterns(text, andPatterns)) {
+						matches = true;
+						break;
+					}
+				}
+			}
+		}
+		return matches;
+	}
+
+	private static boolean matchesAndPatterns(
+			final String text,
+			final CompiledGlobPattern[] andPatterns) {
+
+		boolean matches = true;
+		for (final CompiledGlobPattern compiledGlobPattern : andPatterns) {
+
+			if (!compiledGlobPattern.matches(text)) {
+				matches = false;
+				break;
+			}
+		}
+		return matches;
+	}
+
+	@Override
+	public String toString() {
+		return StrUtils.reflectionToString(this);
+	}
+}
@@ -6,7 +6,6 @@ import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 
 import com.utils.string.regex.RegexUtils;
-import com.utils.string.regex.custom_patterns.patterns.CustomPatternGlobRegex;
 
 public final class GlobRegexMatcher {
 
@@ -39,44 +38,25 @@ public final class GlobRegexMatcher {
 		return pattern.isEmpty() || "*".equals(pattern);
 	}
 
-	public static boolean matchesPatterns(
-			final String text,
+	/**
+	 * @param patterns
+	 *            the patterns returned by {@link #parseFilterPatterns}; null to match all the texts
+	 * @return a matcher that compiles the patterns only once, to be used when the same patterns are matched against
+	 *         many texts
+	 */
+	public static GlobFilterMatcher compileFilterPatterns(
 			final List<String[]> patterns,
 			final boolean caseSensitive) {
 
-		boolean matches = false;
-		if (text != null) {
-
-			if (patterns == null) {
-				matches = true;
-
-			} else {
-				for (final String[] andPatterns : patterns) {
-
-					if (matchesAndPatterns(text, andPatterns, caseSensitive)) {
-						matches = true;
-						break;
-					}
-				}
-			}
-		}
-		return matches;
+		return GlobFilterMatcher.compile(patterns, caseSensitive);
 	}
 
-	private static boolean matchesAndPatterns(
+	public static boolean matchesPatterns(
 			final String text,
-			final String[] andPatterns,
+			final List<String[]> patterns,
 			final boolean caseSensitive) {
 
-		boolean matches = true;
-		for (final String pattern : andPatterns) {
-
-			if (!matchesPattern(text, pattern, caseSensitive)) {
-				matches = false;
-				break;
-			}
-		}
-		return matches;
+		return compileFilterPatterns(patterns, caseSensitive).matches(text);
 	}
 
 	public static boolean matchesPattern(
@@ -84,7 +64,8 @@ public final class GlobRegexMatcher {
 			final String pattern,
 			final boolean caseSensitive) {
 
-		final CustomPatternGlobRegex patternGlobRegex = new CustomPatternGlobRegex(pattern, false, caseSensitive);
-		return patternGlobRegex.checkMatches(text);
+		final CompiledGlobPattern compiledGlobPattern =
+				CompiledGlobPatternCache.getCompiledGlobPattern(pattern, caseSensitive);
+		return compiledGlobPattern.matches(text);
 	}
 }
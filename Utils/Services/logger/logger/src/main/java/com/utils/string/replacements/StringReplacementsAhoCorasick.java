@@ -0,0 +1,218 @@
+package com.utils.string.replacements;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import com.utils.string.StrUtils;
+
+/**
+ * Performs all the replacements in a left-to-right scan, with an Aho-Corasick automaton that is built from the
+ * registered replacements before the first use. Where several search strings match, the leftmost match wins and,
+ * among the matches that start at the same position, the longest one. To decide that, the scan reads ahead of each
+ * match by less than the length of the longest search string and, once the match is replaced, goes back to the end
+ * of the match; so the running time is O(n + m * k), for n characters, m matches and k the length of the longest
+ * search string, which in the worst case, with a match every few characters, is O(n * k). The replaced text is not
+ * searched again, so, unlike in {@link StringReplacementsRegular}, the replacement strings are never themselves
+ * replaced. If the same search string is registered more than once, its first replacement is used.
+ */
+public class StringReplacementsAhoCorasick implements StringReplacements {
+
+	private final List<StringReplacementsRegularData> stringReplacementsRegularDataList;
+
+	private Node root;
+
+	public StringReplacementsAhoCorasick() {
+
+		stringReplacementsRegularDataList = new ArrayList<>();
+	}
+
+	@Override
+	public void addReplacement(
+			final String searchString,
+			final String replacementString) {
+
+		if (searchString != null && !searchString.isEmpty()) {
+
+			final StringReplacementsRegularData stringReplacementsRegularData =
+					new StringReplacementsRegularData(searchString, replacementString);
+			stringReplacementsRegularDataList.add(stringReplacementsRegularData);
+			root = null;
+		}
+	}
+
+	@Override
+	public String performReplacements(
+			final String str) {
+
+		String resultStr = str;
+		if (str != null && !stringReplacementsRegularDataList.isEmpty()) {
+
+			if (root == null) {
+				root = buildAutomaton();
+			}
+			resultStr = replaceMatches(str);
+		}
+		return resultStr;
+	}
+
+	private Node buildAutomaton() {
+
+		final Node rootNode = new Node(0);
+		for (final StringReplacementsRegularData stringReplacementsRegularData : stringReplacementsRegularDataList) {
+
+			final String searchString = stringReplacementsRegularData.searchString();
+			Node node = rootNode;
+			for (int i = 0; i < searchString.length(); i++) {
+
+				final int depth = node.depth + 1;
+				node = node.childrenByChar.computeIfAbsent(searchString.charAt(i), ch -> new Node(depth));
+			}
+			if (node.replacementString == null) {
+				node.replacementString = stringReplacementsRegularData.replacementString();
+			}
+		}
+
+		final Queue<Node> nodeQueue = new ArrayDeque<>();
+		rootNode.failNode = rootNode;
+		for (final Node childNode : rootNode.childrenByChar.values()) {
+
+			childNode.failNode = rootNode;
+			childNode.initMatch();
+			nodeQueue.add(childNode);
+		}
+		while (!nodeQueue.isEmpty()) {
+
+			final Node node = nodeQueue.remove();
+			for (final Map.Entry<Character, Node> childEntry : node.childrenByChar.entrySet()) {
+
+				final char ch = childEntry.getKey();
+				final Node childNode = childEntry.getValue();
+				childNode.failNode = computeNextNode(node.failNode, ch, rootNode);
+				childNode.initMatch();
+				nodeQueue.add(childNode);
+			}
+		}
+		return rootNode;
+	}
+
+	/**
+	 * Once a match is found, the scan goes on only while a longer or an earlier match may still be in progress; then
+	 * the match is replaced and the scan restarts from the root, right after the match.
+	 */
+	private String replaceMatches(
+			final String str) {
+
+		final StringBuilder sbResult = new StringBuilder(str.length());
+		int copiedIndex = 0;
+		int matchStart = -1;
+		int matchEnd = -1;
+		String matchReplacementString = null;
+
+		Node node = root;
+		int index = 0;
+		while (index < str.length()) {
+
+			node = computeNextNode(node, str.charAt(index), root);
+			index++;
+
+			if (node.matchLength > 0) {
+
+				final int start = index - node.matchLength;
+				if (matchStart < 0 || start < matchStart || start == matchStart && index > matchEnd) {
+
+					matchStart = start;
+					matchEnd = index;
+					matchReplacementString = node.matchReplacementString;
+				}
+			}
+
+			if (matchStart >= 0 && index - node.depth > matchStart) {
+
+				sbResult.append(str, copiedIndex, matchStart).append(matchReplacementString);
+				copiedIndex = matchEnd;
+				index = matchEnd;
+				node = root;
+				matchStart = -1;
+			}
+		}
+		if (matchStart >= 0) {
+
+			sbResult.append(str, copiedIndex, matchStart).append(matchReplacementString);
+			copiedIndex = matchEnd;
+		}
+
+		final String resultStr;
+		if (copiedIndex == 0) {
+			resultStr = str;
+		} else {
+			sbResult.append(str, copiedIndex, str.length());
+			resultStr = sbResult.toString();
+		}
+		return resultStr;
+	}
+
+	private static Node computeNextNode(
+			final Node node,
+			final char ch,
+			final Node rootNode) {
+
+		Node currentNode = node;
+		Node nextNode = currentNode.childrenByChar.get(ch);
+		while (nextNode == null && currentNode != rootNode) {
+
+			currentNode = currentNode.failNode;
+			nextNode = currentNode.childrenByChar.get(ch);
+		}
+		if (nextNode == null) {
+			nextNode = rootNode;
+		}
+		return nextNode;
+	}
+
+	@Override
+	public String toString() {
+		return StrUtils.reflectionToString(this);
+	}
+
+	private static final class Node {
+
+		private final int depth;
+		private final Map<Character, Node> childrenByChar;
+
+		private Node failNode;
+		private String replacementString;
+
+		/**
+		 * the length of the longest search string that ends at this node, 0 if there is none
+		 */
+		private int matchLength;
+		private String matchReplacementString;
+
+		Node(
+				final int depth) {
+
+			this.depth = depth;
+			childrenByChar = new HashMap<>();
+		}
+
+		/**
+		 * Called after the match of the fail node is initialized, which the breadth-first order guarantees.
+		 */
+		void initMatch() {
+
+			if (replacementString != null) {
+
+				matchLength = depth;
+				matchReplacementString = replacementString;
+
+			} else {
+				matchLength = failNode.matchLength;
+				matchReplacementString = failNode.matchReplacementString;
+			}
+		}
+	}
+}
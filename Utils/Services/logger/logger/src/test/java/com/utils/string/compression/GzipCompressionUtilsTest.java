@@ -1,6 +1,11 @@
 package com.utils.string.compression;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -17,4 +22,66 @@ class GzipCompressionUtilsTest {
 		final byte[] decompressedBytes = GzipCompressionUtils.decompress(compressedBytes);
 		Assertions.assertArrayEquals(bytes, decompressedBytes);
 	}
+
+	@Test
+	void testCompressStream() throws Exception {
+
+		final StringBuilder sbInput = new StringBuilder();
+		for (int i = 0; i < 400_000; i++) {
+			sbInput.append("line ").append(i).append(' ').append(i * 31 % 977).append(System.lineSeparator());
+		}
+		final byte[] bytes = sbInput.toString().getBytes(StandardCharsets.UTF_8);
+
+		// the input spans about 6 blocks of 1 MB, so with 1 thread, which allows at most 2 blocks in flight,
+		// the parallel compression has to wait for the oldest block before reading the next ones
+		Assertions.assertTrue(bytes.length > 4 * 1024 * 1024);
+
+		for (final int threadCount : new int[] { 0, 1, 3 }) {
+			for (final int level : new int[] { Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION }) {
+
+				final ByteArrayOutputStream compressedOutputStream = new ByteArrayOutputStream();
+				if (threadCount > 0) {
+					GzipCompressionUtils.compressStreamParallel(new ByteArrayInputStream(bytes),
+							compressedOutputStream, level, threadCount);
+				} else {
+					GzipCompressionUtils.compressStream(new ByteArrayInputStream(bytes),
+							compressedOutputStream, level);
+				}
+				final byte[] compressedBytes = compressedOutputStream.toByteArray();
+				Assertions.assertTrue(compressedBytes.length < bytes.length);
+				Assertions.assertArrayEquals(bytes, GzipCompressionUtils.decompress(compressedBytes));
+			}
+		}
+
+		final ByteArrayOutputStream emptyCompressedOutputStream = new ByteArrayOutputStream();
+		GzipCompressionUtils.compressStreamParallel(new ByteArrayInputStream(new byte[0]),
+				emptyCompressedOutputStream, Deflater.DEFAULT_COMPRESSION, 2);
+		Assertions.assertArrayEquals(new byte[0],
+				GzipCompressionUtils.decompress(emptyCompressedOutputStream.toByteArray()));
+	}
+
+	@Test
+	void testCompressFile() throws Exception {
+
+		final Path folderPath = Files.createTempDirectory("gzip_compression_utils_test_");
+		final Path inputFilePath = folderPath.resolve("input.txt");
+		final Path compressedFilePath = folderPath.resolve("input.txt.gz");
+		final Path decompressedFilePath = folderPath.resolve("output.txt");
+		try {
+			final byte[] bytes = "ABC BCD CBD EDC ".repeat(100_000).getBytes(StandardCharsets.UTF_8);
+			Files.write(inputFilePath, bytes);
+
+			Assertions.assertTrue(GzipCompressionUtils.compressFile(inputFilePath.toString(),
+					compressedFilePath.toString(), Deflater.DEFAULT_COMPRESSION, 4));
+			Assertions.assertTrue(GzipCompressionUtils.decompressFile(compressedFilePath.toString(),
+					decompressedFilePath.toString()));
+			Assertions.assertArrayEquals(bytes, Files.readAllBytes(decompressedFilePath));
+
+		} finally {
+			Files.deleteIfExists(inputFilePath);
+			Files.deleteIfExists(compressedFilePath);
+			Files.deleteIfExists(decompressedFilePath);
+			Files.deleteIfExists(folderPath);
+		}
+	}
 }
@@ -0,0 +1,47 @@
+package com.utils.string.regex.glob;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.utils.string.regex.custom_patterns.patterns.CustomPatternGlobRegex;
+
+class GlobRegexMatcherTest {
+
+	@Test
+	void testMatchesPattern() {
+
+		final String[] patterns = { "*.jpg", "IMG_*", "photo.jpg", "*", "", "img_*.jp?", "*.{jpg,png}",
+				"a[bc]d", "x\\*y", "*.JPG" };
+		final String[] texts = { "photo.jpg", "PHOTO.JPG", "img_0001.jpg", "IMG_0001.PNG", "a.png", "abd",
+				"x*y", "xzy", "", ".jpg", "photo.jpg.bak" };
+		for (final String pattern : patterns) {
+			for (final String text : texts) {
+				for (final boolean caseSensitive : new boolean[] { true, false }) {
+
+					final boolean expectedMatches =
+							new CustomPatternGlobRegex(pattern, false, caseSensitive).checkMatches(text);
+					final boolean matches = GlobRegexMatcher.matchesPattern(text, pattern, caseSensitive);
+					Assertions.assertEquals(expectedMatches, matches,
+							"pattern \"" + pattern + "\", text \"" + text + "\", case sensitive " + caseSensitive);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testCompileFilterPatterns() {
+
+		final List<String[]> patterns = GlobRegexMatcher.parseFilterPatterns("*.jpg" +
+				System.lineSeparator() + "IMG_* *.png");
+		final GlobFilterMatcher globFilterMatcher = GlobRegexMatcher.compileFilterPatterns(patterns, false);
+		Assertions.assertTrue(globFilterMatcher.matches("photo.JPG"));
+		Assertions.assertTrue(globFilterMatcher.matches("img_0001.png"));
+		Assertions.assertFalse(globFilterMatcher.matches("photo.png"));
+		Assertions.assertFalse(globFilterMatcher.matches(null));
+
+		final GlobFilterMatcher allGlobFilterMatcher = GlobRegexMatcher.compileFilterPatterns(null, false);
+		Assertions.assertTrue(allGlobFilterMatcher.matches("photo.png"));
+	}
+}
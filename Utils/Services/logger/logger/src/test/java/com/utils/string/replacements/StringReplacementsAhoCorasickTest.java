@@ -0,0 +1,59 @@
+package com.utils.string.replacements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+class StringReplacementsAhoCorasickTest {
+
+	@TestFactory
+	List<DynamicTest> testPerformReplacements() {
+
+		final List<DynamicTest> dynamicTestList = new ArrayList<>();
+		final List<Integer> testCaseList = Arrays.asList(1, 2, 3, 4, 5);
+		if (testCaseList.contains(1)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("1", () -> testPerformReplacementsCommon(
+					"abc@orig1@bcd@orig2@cdb@orig1@xyz", "abc1bcd2cdb1xyz",
+					"@orig1@", "1", "@orig2@", "2")));
+		}
+		if (testCaseList.contains(2)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("2", () -> testPerformReplacementsCommon(
+					"ushers", "uSHErs",
+					"he", "HE", "she", "SHE", "hers", "HERS")));
+		}
+		if (testCaseList.contains(3)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("3", () -> testPerformReplacementsCommon(
+					"abcdx abcde", "ABcdx ABCDE",
+					"ab", "AB", "abcde", "ABCDE", "bc", "BC")));
+		}
+		if (testCaseList.contains(4)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("4", () -> testPerformReplacementsCommon(
+					"aaaa", "bb",
+					"aa", "b", "a", "c")));
+		}
+		if (testCaseList.contains(5)) {
+			dynamicTestList.add(DynamicTest.dynamicTest("5", () -> testPerformReplacementsCommon(
+					"no match here", "no match here",
+					"xyz", "1", "", "2")));
+		}
+		return dynamicTestList;
+	}
+
+	private static void testPerformReplacementsCommon(
+			final String str,
+			final String expectedStr,
+			final String... searchAndReplacementStrings) {
+
+		final StringReplacements stringReplacements = new StringReplacementsAhoCorasick();
+		for (int i = 0; i < searchAndReplacementStrings.length; i += 2) {
+			stringReplacements.addReplacement(searchAndReplacementStrings[i], searchAndReplacementStrings[i + 1]);
+		}
+
+		final String outStr = stringReplacements.performReplacements(str);
+		Assertions.assertEquals(expectedStr, outStr);
+	}
+}